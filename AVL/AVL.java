@@ -1,13 +1,28 @@
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * My AVL Implementation
  * @author Sohum Gala
  * @version 1.0
  */
-public class AVL<T extends Comparable<? super T>> {
+public class AVL<T extends Comparable<? super T>> implements Iterable<T> {
+
+    /**
+     * fromSorted builds the two halves of every subtree with at least this
+     * many data concurrently.
+     */
+    public static final int PARALLEL_BUILD_THRESHOLD = 1 << 13;
 
     private AVLNode<T> root;
     private int size;
@@ -37,6 +52,192 @@ public class AVL<T extends Comparable<? super T>> {
         }
     }
 
+    /**
+     * Builds a balanced AVL from data in strictly ascending order in O(n),
+     * instead of adding each element. The build runs on the given pool.
+     * @param <T>    data type stored in the tree
+     * @param sorted the data to add, in strictly ascending order
+     * @param pool   the ForkJoinPool to build on
+     * @return a balanced AVL holding the data
+     * @throws java.lang.IllegalArgumentException if sorted, pool, or any
+     *                                            element in sorted is null,
+     *                                            or if the data is not
+     *                                            strictly ascending
+     */
+    public static <T extends Comparable<? super T>> AVL<T> fromSorted(List<T> sorted, ForkJoinPool pool) {
+        if (sorted == null || pool == null) {
+            throw new java.lang.IllegalArgumentException("sorted data or pool cannot be null");
+        }
+        List<T> data = new ArrayList<>(sorted);
+        for (int i = 0; i < data.size(); i++) {
+            if (data.get(i) == null) {
+                throw new java.lang.IllegalArgumentException("Cannot add null data to data structure");
+            }
+            if (i > 0 && data.get(i - 1).compareTo(data.get(i)) >= 0) {
+                throw new java.lang.IllegalArgumentException("data must be in strictly ascending order");
+            }
+        }
+        AVL<T> tree = new AVL<>();
+        if (!data.isEmpty()) {
+            tree.root = pool.invoke(ForkJoinTask.adapt(() -> tree.buildBalanced(data, 0, data.size() - 1)));
+        }
+        tree.size = data.size();
+        return tree;
+    }
+
+    /**
+     * private helper method that builds a balanced tree from sorted data,
+     * forking the left half of large subtrees
+     * @param sorted data in strictly ascending order
+     * @param start index of the first data in the subtree
+     * @param end index of the last data in the subtree
+     * @return the root of the subtree
+     */
+    private AVLNode<T> buildBalanced(List<T> sorted, int start, int end) {
+        if (start > end) {
+            return null;
+        }
+        int mid = (start + end) >>> 1;
+        AVLNode<T> curr = new AVLNode<>(sorted.get(mid));
+        if (end - start >= PARALLEL_BUILD_THRESHOLD) {
+            ForkJoinTask<AVLNode<T>> left = ForkJoinTask.adapt(() -> buildBalanced(sorted, start, mid - 1)).fork();
+            curr.setRight(buildBalanced(sorted, mid + 1, end));
+            curr.setLeft(left.join());
+        } else {
+            curr.setLeft(buildBalanced(sorted, start, mid - 1));
+            curr.setRight(buildBalanced(sorted, mid + 1, end));
+        }
+        update(curr);
+        return curr;
+    }
+
+    /**
+     * Joins two trees around a pivot into a new tree in O(log n). Every data
+     * in left must be less than pivot, and every data in right greater than
+     * pivot. left and right are left empty.
+     * @param <T>   the type of data in the trees
+     * @param left  tree holding the data less than pivot
+     * @param pivot the data between the two trees
+     * @param right tree holding the data greater than pivot
+     * @return a new tree holding the data of left, pivot, and right
+     * @throws java.lang.IllegalArgumentException if any input is null, left
+     *                                            and right are the same tree,
+     *                                            or the data is not in order
+     */
+    public static <T extends Comparable<? super T>> AVL<T> join(AVL<T> left, T pivot, AVL<T> right) {
+        if (left == null || pivot == null || right == null || left == right) {
+            throw new java.lang.IllegalArgumentException("cannot join null trees or a tree with itself");
+        }
+        if ((left.root != null && left.max(left.root).compareTo(pivot) >= 0)
+                || (right.root != null && right.min(right.root).compareTo(pivot) <= 0)) {
+            throw new java.lang.IllegalArgumentException("left data must be less than pivot and right data greater");
+        }
+        AVL<T> joined = new AVL<>();
+        joined.root = joined.joinHelper(left.root, new AVLNode<>(pivot), right.root);
+        joined.size = joined.root.getSize();
+        left.clear();
+        right.clear();
+        return joined;
+    }
+
+    /**
+     * Splits the tree around data in O(log n). This tree keeps the data less
+     * than the parameter, and the data greater than or equal to it is moved
+     * into the returned tree.
+     * @param data the data to split around
+     * @return a new tree holding the data greater than or equal to data
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public AVL<T> split(T data) {
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("cannot split around null data");
+        }
+        AVLNode<T> halves = new AVLNode<>(null);
+        splitHelper(root, data, halves);
+        AVL<T> upper = new AVL<>();
+        upper.root = halves.getRight();
+        upper.size = sizeOf(upper.root);
+        root = halves.getLeft();
+        size = sizeOf(root);
+        return upper;
+    }
+
+    /**
+     * private helper method for split
+     * @param curr current node being split
+     * @param data data to split around
+     * @param halves node whose left child is set to the tree of data less than
+     *               data and whose right child is set to the rest
+     */
+    private void splitHelper(AVLNode<T> curr, T data, AVLNode<T> halves) {
+        if (curr == null) {
+            halves.setLeft(null);
+            halves.setRight(null);
+            return;
+        }
+        AVLNode<T> left = curr.getLeft();
+        AVLNode<T> right = curr.getRight();
+        if (data.compareTo(curr.getData()) <= 0) {
+            splitHelper(left, data, halves);
+            halves.setRight(joinHelper(halves.getRight(), curr, right));
+        } else {
+            splitHelper(right, data, halves);
+            halves.setLeft(joinHelper(left, curr, halves.getLeft()));
+        }
+    }
+
+    /**
+     * private helper method that joins two subtrees around a pivot node,
+     * walking down the spine of the taller subtree until the heights are
+     * close and rebalancing on the way back up
+     * @param left subtree holding the data less than the pivot
+     * @param pivot node holding the data between the subtrees, its children
+     *              are overwritten
+     * @param right subtree holding the data greater than the pivot
+     * @return the root of the joined subtree
+     */
+    private AVLNode<T> joinHelper(AVLNode<T> left, AVLNode<T> pivot, AVLNode<T> right) {
+        int hLeft = (left == null) ? -1 : left.getHeight();
+        int hRight = (right == null) ? -1 : right.getHeight();
+        if (hLeft > hRight + 1) {
+            left.setRight(joinHelper(left.getRight(), pivot, right));
+            update(left);
+            return comprehensiveRebalance(left);
+        } else if (hRight > hLeft + 1) {
+            right.setLeft(joinHelper(left, pivot, right.getLeft()));
+            update(right);
+            return comprehensiveRebalance(right);
+        }
+        pivot.setLeft(left);
+        pivot.setRight(right);
+        update(pivot);
+        return pivot;
+    }
+
+    /**
+     * private helper method that finds the smallest data in a subtree
+     * @param curr root of the subtree, must not be null
+     * @return the smallest data in the subtree
+     */
+    private T min(AVLNode<T> curr) {
+        while (curr.getLeft() != null) {
+            curr = curr.getLeft();
+        }
+        return curr.getData();
+    }
+
+    /**
+     * private helper method that finds the largest data in a subtree
+     * @param curr root of the subtree, must not be null
+     * @return the largest data in the subtree
+     */
+    private T max(AVLNode<T> curr) {
+        while (curr.getRight() != null) {
+            curr = curr.getRight();
+        }
+        return curr.getData();
+    }
+
     /**
      * Adds the element to the tree.
      * @param data the data to add
@@ -144,24 +345,11 @@ public class AVL<T extends Comparable<? super T>> {
         if (data == null) {
             throw new java.lang.IllegalArgumentException("cannot retrieve null data from data structure");
         }
-        return getHelper(root, data);
-    }
-    /**
-     * private helper method for above get method
-     * @param curr current node being traversed
-     * @param data data to be retrieved from BST
-     * @return data stored in BST if it matches data passed in
-     */
-    private T getHelper(AVLNode<T> curr, T data) {
+        AVLNode<T> curr = find(data);
         if (curr == null) {
             throw new java.util.NoSuchElementException("could not find specified data in data structure");
-        } else if (curr.getData().equals(data)) {
-            return curr.getData();
-        } else if (data.compareTo(curr.getData()) < 0) {
-            return getHelper(curr.getLeft(), data);
-        } else {
-            return getHelper(curr.getRight(), data);
         }
+        return curr.getData();
     }
 
     /**
@@ -176,24 +364,20 @@ public class AVL<T extends Comparable<? super T>> {
         if (data == null) {
             throw new java.lang.IllegalArgumentException("cannot search for null data in data structure");
         }
-        return containsHelper(root, data);
+        return find(data) != null;
     }
+
     /**
-     * private helper method for above contains method
-     * @param curr current node being traversed
-     * @param data data to be searched for in the bST
-     * @return true or false depending on whether or not the data was found in the BST
+     * private helper method that finds the node holding data
+     * @param data data to search for
+     * @return the node holding data, or null if it is not in the tree
      */
-    private boolean containsHelper(AVLNode<T> curr, T data) {
-        if (curr == null) {
-            return false;
-        } else if (curr.getData().equals(data)) {
-            return true;
-        } else if (data.compareTo(curr.getData()) < 0) {
-            return containsHelper(curr.getLeft(), data);
-        } else {
-            return containsHelper(curr.getRight(), data);
+    private AVLNode<T> find(T data) {
+        AVLNode<T> curr = root;
+        while (curr != null && !curr.getData().equals(data)) {
+            curr = (data.compareTo(curr.getData()) < 0) ? curr.getLeft() : curr.getRight();
         }
+        return curr;
     }
 
     /**
@@ -201,12 +385,180 @@ public class AVL<T extends Comparable<? super T>> {
      * @return the height of the root of the tree, -1 if the tree is empty
      */
     public int height() {
-        if (size == 0) {
-            return -1;
+        return (root == null) ? -1 : root.getHeight();
+    }
+
+    /**
+     * Returns the number of data in the tree.
+     * @return the size of the tree
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns an iterator that lazily walks the tree in-order.
+     * @return an in-order iterator over the tree
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new AVLInorderIterator<>(root);
+    }
+
+    /**
+     * Returns a spliterator that walks the tree in-order and splits on
+     * subtrees, so a parallel stream hands each thread whole subtrees.
+     * @return an in-order spliterator over the tree
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new AVLSpliterator<>(null, root);
+    }
+
+    /**
+     * Returns a sequential stream over the tree in-order. Call parallel() on
+     * it to process subtrees on different threads.
+     * @return an in-order stream over the tree
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns an iterator that lazily walks the data in [lo, hi] in-order.
+     * The iterator descends to lo once and then streams, so reading k data
+     * costs O(log n + k).
+     * @param lo the lower bound of the range, inclusive
+     * @param hi the upper bound of the range, inclusive
+     * @return an in-order iterator over the data in the range
+     * @throws java.lang.IllegalArgumentException if lo or hi is null
+     */
+    public Iterator<T> range(T lo, T hi) {
+        if (lo == null || hi == null) {
+            throw new java.lang.IllegalArgumentException("range bounds cannot be null");
+        }
+        return new AVLInorderIterator<>(root, lo, hi);
+    }
+
+    /**
+     * Returns an iterator that lazily walks the data less than or equal to hi
+     * in-order.
+     * @param hi the upper bound of the range, inclusive
+     * @return an in-order iterator over the data in the range
+     * @throws java.lang.IllegalArgumentException if hi is null
+     */
+    public Iterator<T> headRange(T hi) {
+        if (hi == null) {
+            throw new java.lang.IllegalArgumentException("range bounds cannot be null");
+        }
+        return new AVLInorderIterator<>(root, null, hi);
+    }
+
+    /**
+     * Returns an iterator that lazily walks the data greater than or equal to
+     * lo in-order.
+     * @param lo the lower bound of the range, inclusive
+     * @return an in-order iterator over the data in the range
+     * @throws java.lang.IllegalArgumentException if lo is null
+     */
+    public Iterator<T> tailRange(T lo) {
+        if (lo == null) {
+            throw new java.lang.IllegalArgumentException("range bounds cannot be null");
+        }
+        return new AVLInorderIterator<>(root, lo, null);
+    }
+
+    /**
+     * Returns the greatest data in the tree less than or equal to data.
+     * @param data the data to search for
+     * @return the floor of data in the tree
+     * @throws java.lang.IllegalArgumentException if data is null
+     * @throws java.util.NoSuchElementException   if there is no such data
+     */
+    public T floor(T data) {
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("cannot search for null data in data structure");
         }
-        int hLeft = (root.getLeft() == null) ? -1 : root.getLeft().getHeight();
-        int hRight = (root.getRight() == null) ? -1 : root.getRight().getHeight();
-        return Math.max(hLeft, hRight) + 1;
+        return neighbor(data, false, true);
+    }
+
+    /**
+     * Returns the least data in the tree greater than or equal to data.
+     * @param data the data to search for
+     * @return the ceiling of data in the tree
+     * @throws java.lang.IllegalArgumentException if data is null
+     * @throws java.util.NoSuchElementException   if there is no such data
+     */
+    public T ceiling(T data) {
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("cannot search for null data in data structure");
+        }
+        return neighbor(data, true, true);
+    }
+
+    /**
+     * Returns the greatest data in the tree strictly less than data.
+     * @param data the data to search for
+     * @return the data immediately below data in the tree
+     * @throws java.lang.IllegalArgumentException if data is null
+     * @throws java.util.NoSuchElementException   if there is no such data
+     */
+    public T lower(T data) {
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("cannot search for null data in data structure");
+        }
+        return neighbor(data, false, false);
+    }
+
+    /**
+     * Returns the least data in the tree strictly greater than data.
+     * @param data the data to search for
+     * @return the data immediately above data in the tree
+     * @throws java.lang.IllegalArgumentException if data is null
+     * @throws java.util.NoSuchElementException   if there is no such data
+     */
+    public T higher(T data) {
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("cannot search for null data in data structure");
+        }
+        return neighbor(data, true, false);
+    }
+
+    /**
+     * private helper method shared by floor, ceiling, lower, and higher
+     * @param data the data to search for
+     * @param above true to search for data above, false to search below
+     * @param inclusive whether data equal to the parameter can be returned
+     * @return the closest data on the requested side of data
+     */
+    private T neighbor(T data, boolean above, boolean inclusive) {
+        AVLNode<T> best = null;
+        AVLNode<T> curr = root;
+        while (curr != null) {
+            int comparison = data.compareTo(curr.getData());
+            if (comparison == 0 && inclusive) {
+                return curr.getData();
+            }
+            if (above) {
+                if (comparison < 0) {
+                    best = curr;
+                    curr = curr.getLeft();
+                } else {
+                    curr = curr.getRight();
+                }
+            } else {
+                if (comparison > 0) {
+                    best = curr;
+                    curr = curr.getRight();
+                } else {
+                    curr = curr.getLeft();
+                }
+            }
+        }
+        if (best == null) {
+            throw new java.util.NoSuchElementException("no data in the tree on the requested side of the given data");
+        }
+        return best.getData();
     }
 
     /**
@@ -217,6 +569,140 @@ public class AVL<T extends Comparable<? super T>> {
         root = null;
     }
 
+    /**
+     * Returns the data at index i of the tree's sorted order, so select(0)
+     * is the smallest data in the tree.
+     * @param i the index of the data to find
+     * @return the i-th smallest data in the tree
+     * @throws java.lang.IllegalArgumentException if i is negative or not less
+     *                                            than the size of the tree
+     */
+    public T select(int i) {
+        if (i < 0 || i >= size) {
+            throw new java.lang.IllegalArgumentException("index should be between 0 and " + (size - 1));
+        }
+        AVLNode<T> curr = root;
+        while (true) {
+            int leftSize = sizeOf(curr.getLeft());
+            if (i < leftSize) {
+                curr = curr.getLeft();
+            } else if (i > leftSize) {
+                i -= leftSize + 1;
+                curr = curr.getRight();
+            } else {
+                return curr.getData();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of data in the tree less than the given data, which
+     * is also the index data has or would have in the tree's sorted order.
+     * @param data the data to rank
+     * @return the number of data in the tree less than data
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public int rank(T data) {
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("cannot rank null data");
+        }
+        return countBelow(data, false);
+    }
+
+    /**
+     * Returns the number of data in the tree between lo and hi, inclusive.
+     * @param lo the lower bound of the range
+     * @param hi the upper bound of the range
+     * @return the number of data in the tree in [lo, hi], 0 if lo is greater
+     * than hi
+     * @throws java.lang.IllegalArgumentException if lo or hi is null
+     */
+    public int countInRange(T lo, T hi) {
+        if (lo == null || hi == null) {
+            throw new java.lang.IllegalArgumentException("range bounds cannot be null");
+        }
+        if (lo.compareTo(hi) > 0) {
+            return 0;
+        }
+        return countBelow(hi, true) - countBelow(lo, false);
+    }
+
+    /**
+     * Finds and retrieves the k-largest elements from the AVL in sorted order,
+     * least to greatest.
+     * @param k the number of largest elements to return
+     * @return sorted list consisting of the k largest elements
+     * @throws java.lang.IllegalArgumentException if k is negative or greater
+     *                                            than the number of data in
+     *                                            the AVL
+     */
+    public List<T> kLargest(int k) {
+        if (k > size || k < 0) {
+            throw new java.lang.IllegalArgumentException("input should be between 0 and " + size);
+        }
+        List<T> largest = new ArrayList<>(k);
+        if (k == 0) {
+            return largest;
+        }
+        // descend to the (size - k)-th node, keeping the ancestors still to be visited in-order
+        Deque<AVLNode<T>> stack = new ArrayDeque<>();
+        AVLNode<T> curr = root;
+        int i = size - k;
+        while (curr != null) {
+            int leftSize = sizeOf(curr.getLeft());
+            if (i < leftSize) {
+                stack.push(curr);
+                curr = curr.getLeft();
+            } else if (i > leftSize) {
+                i -= leftSize + 1;
+                curr = curr.getRight();
+            } else {
+                stack.push(curr);
+                curr = null;
+            }
+        }
+        while (!stack.isEmpty()) {
+            AVLNode<T> node = stack.pop();
+            largest.add(node.getData());
+            curr = node.getRight();
+            while (curr != null) {
+                stack.push(curr);
+                curr = curr.getLeft();
+            }
+        }
+        return largest;
+    }
+
+    /**
+     * private helper method that counts the data in the tree below a bound
+     * @param bound the data to compare against
+     * @param inclusive whether data equal to bound should be counted
+     * @return the number of data less than (or equal to) bound
+     */
+    private int countBelow(T bound, boolean inclusive) {
+        int count = 0;
+        AVLNode<T> curr = root;
+        while (curr != null) {
+            int comparison = bound.compareTo(curr.getData());
+            if (comparison > 0 || (inclusive && comparison == 0)) {
+                count += sizeOf(curr.getLeft()) + 1;
+                curr = curr.getRight();
+            } else {
+                curr = curr.getLeft();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * private helper method that returns the size of a possibly empty subtree
+     * @param curr root of the subtree
+     * @return the number of nodes in the subtree, 0 if curr is null
+     */
+    private int sizeOf(AVLNode<T> curr) {
+        return (curr == null) ? 0 : curr.getSize();
+    }
+
     /**
      * Find a path of letters in the tree that spell out a particular word,
      * if the path exists.
@@ -233,92 +719,173 @@ public class AVL<T extends Comparable<? super T>> {
         if (word == null) {
             throw new java.lang.IllegalArgumentException("cannot perform a word search on a null array");
         }
-        List<T> list = new LinkedList<>();
         if (word.length == 0) {
-            return list;
-        } else if (word.length == 1) {
-            list.add(get(word[0]));
-            return list;
+            return new ArrayList<>(0);
         }
         AVLNode<T> dca = getDCA(root, word[0], word[word.length - 1]);
-        list.add(dca.getData());
-        traverseToFront(dca, word[0], list, dca);
-        traverseToBack(dca, word[word.length - 1], list, dca);
-        if (word.length != list.size()) {
+        List<T> path = (dca == null) ? null : pathFromDCA(dca, word);
+        if (path == null) {
             throw new java.util.NoSuchElementException("path of word does not exist in the tree");
         }
-        for (int i = 0; i < word.length; i++) {
-            if (!word[i].equals(list.get(i))) {
-                throw new java.util.NoSuchElementException("path of word does not exist in the tree");
+        return path;
+    }
+
+    /**
+     * Runs wordSearch on many words at once. The words share one descent
+     * from the root: at each node, the words whose deepest common ancestor is
+     * further down are split between the two children, so the nodes above
+     * each word's ancestor are visited once for the whole batch.
+     * @param words list of words, where each element of a word represents a
+     * letter in the word (in order)
+     * @return list holding the result of wordSearch for each word, in the same
+     * order as words, with null in place of any word whose path is not in the
+     * tree
+     * @throws java.lang.IllegalArgumentException if words or any word in words
+     *                                            is null
+     */
+    public List<List<T>> wordSearchAll(List<T[]> words) {
+        if (words == null || words.contains(null)) {
+            throw new java.lang.IllegalArgumentException("cannot perform a word search on a null array");
+        }
+        List<T[]> batch = new ArrayList<>(words);
+        List<List<T>> results = new ArrayList<>(batch.size());
+        // one shared array of word indices, partitioned in place at each node
+        int[] indices = new int[batch.size()];
+        int count = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            results.add(null);
+            if (batch.get(i).length == 0) {
+                results.set(i, new ArrayList<>(0));
+            } else {
+                indices[count++] = i;
             }
         }
-        return list;
+        if (root == null || count == 0) {
+            return results;
+        }
+        // each node on the stack owns indices[from[j]] to indices[to[j] - 1];
+        // a walk from the root never holds more than height + 2 of them
+        Deque<AVLNode<T>> nodes = new ArrayDeque<>();
+        int[] from = new int[root.getHeight() + 2];
+        int[] to = new int[root.getHeight() + 2];
+        nodes.push(root);
+        to[0] = count;
+        while (!nodes.isEmpty()) {
+            AVLNode<T> curr = nodes.pop();
+            int leftStart = from[nodes.size()];
+            int rightEnd = to[nodes.size()];
+            // partition into words going left, words resolved here, and
+            // words going right
+            int leftEnd = leftStart;
+            int rightStart = rightEnd;
+            int i = leftStart;
+            while (i < rightStart) {
+                int index = indices[i];
+                T[] word = batch.get(index);
+                int begin = word[0].compareTo(curr.getData());
+                int end = word[word.length - 1].compareTo(curr.getData());
+                if (begin < 0 && end < 0) {
+                    indices[i++] = indices[leftEnd];
+                    indices[leftEnd++] = index;
+                } else if (begin > 0 && end > 0) {
+                    indices[i] = indices[--rightStart];
+                    indices[rightStart] = index;
+                } else {
+                    results.set(index, pathFromDCA(curr, word));
+                    i++;
+                }
+            }
+            if (leftEnd > leftStart && curr.getLeft() != null) {
+                from[nodes.size()] = leftStart;
+                to[nodes.size()] = leftEnd;
+                nodes.push(curr.getLeft());
+            }
+            if (rightEnd > rightStart && curr.getRight() != null) {
+                from[nodes.size()] = rightStart;
+                to[nodes.size()] = rightEnd;
+                nodes.push(curr.getRight());
+            }
+        }
+        return results;
     }
 
     /**
      * private helper method to return the DCA of an AVL tree
      * finds the deepest common ancestor of the values of the beginning and end of a word in the tree
-     * @param curr current node being traversed
+     * @param curr node to start searching from
      * @param begin first letter of word
      * @param end last letter of word
-     * @return the Deepest Common Ancestor of
+     * @return the Deepest Common Ancestor of begin and end, or null if it is not in the tree
      */
     private AVLNode<T> getDCA(AVLNode<T> curr, T begin, T end) {
-        if (curr == null) {
-            throw new java.util.NoSuchElementException("deepest ancestor could not be found in the AVL tree");
-        } else if (begin.compareTo(curr.getData()) > 0 && end.compareTo(curr.getData()) > 0) {
-            return getDCA(curr.getRight(), begin, end);
-        } else if (begin.compareTo(curr.getData()) < 0 && end.compareTo(curr.getData()) < 0) {
-            return getDCA(curr.getLeft(), begin, end);
+        while (curr != null) {
+            int beginComparison = begin.compareTo(curr.getData());
+            int endComparison = end.compareTo(curr.getData());
+            if (beginComparison > 0 && endComparison > 0) {
+                curr = curr.getRight();
+            } else if (beginComparison < 0 && endComparison < 0) {
+                curr = curr.getLeft();
+            } else {
+                return curr;
+            }
         }
-        return curr;
+        return null;
     }
 
     /**
-     * private helper method to traverse to the front of the word from the DCA
-     * @param curr current node being traversed
-     * @param front first letter of word
-     * @param list list of letters being added to
-     * @param dca deepest common ancestor node so that the same letter isn't added to list multiple times
+     * private helper method that checks the path from the front of the word
+     * up to the DCA and back down to the back of the word against the word.
+     * The path down to the front is walked once to find where the DCA falls
+     * in the word, and then each path is walked again into a list sized to
+     * the word, stopping at the first letter that does not match.
+     * @param dca deepest common ancestor of the front and back of the word
+     * @param word the word to match
+     * @return list of the letters in the tree along the path, or null if the
+     * path does not spell out the word
      */
-    private void traverseToFront(AVLNode<T> curr, T front, List<T> list, AVLNode<T> dca) {
-        if (curr != null && !curr.getData().equals(dca.getData())) {
-            list.add(0, curr.getData());
+    private List<T> pathFromDCA(AVLNode<T> dca, T[] word) {
+        T front = word[0];
+        T back = word[word.length - 1];
+        // dcaIndex is the number of nodes below the DCA on the path to the front
+        int dcaIndex = 0;
+        AVLNode<T> curr = dca;
+        while (curr != null && front.compareTo(curr.getData()) != 0) {
+            curr = (front.compareTo(curr.getData()) < 0) ? curr.getLeft() : curr.getRight();
+            dcaIndex++;
         }
-        if (curr == null) {
-            return;
+        if (curr == null || dcaIndex >= word.length || !word[dcaIndex].equals(dca.getData())) {
+            return null;
         }
-        if (front.compareTo(curr.getData()) > 0) {
-            traverseToFront(curr.getRight(), front, list, dca);
-        } else if (front.compareTo(curr.getData()) < 0) {
-            traverseToFront(curr.getLeft(), front, list, dca);
-        }
-    }
-
-    /**
-     * private helper method to traverse to the back of the word from the DCA
-     * @param curr current node being traversed
-     * @param back last letter of the word
-     * @param list list of letters being added to
-     * @param dca deepest common ancestor node so that the same letter isn't added to the list multiple times
-     */
-    private void traverseToBack(AVLNode<T> curr, T back, List<T> list, AVLNode<T> dca) {
-        if (curr != null && !curr.getData().equals(dca.getData())) {
-            list.add(list.size(), curr.getData());
+        List<T> path = new ArrayList<>(word.length);
+        path.add(dca.getData());
+        curr = dca;
+        for (int i = dcaIndex - 1; i >= 0; i--) {
+            curr = (front.compareTo(curr.getData()) < 0) ? curr.getLeft() : curr.getRight();
+            if (!word[i].equals(curr.getData())) {
+                return null;
+            }
+            path.add(curr.getData());
         }
-        if (curr == null) {
-            return;
+        // the front half was walked from the DCA down, so put it in word order
+        Collections.reverse(path);
+        curr = dca;
+        int i = dcaIndex + 1;
+        while (back.compareTo(curr.getData()) != 0) {
+            curr = (back.compareTo(curr.getData()) < 0) ? curr.getLeft() : curr.getRight();
+            if (curr == null || i >= word.length || !word[i].equals(curr.getData())) {
+                return null;
+            }
+            path.add(curr.getData());
+            i++;
         }
-        if (back.compareTo(curr.getData()) > 0) {
-            traverseToBack(curr.getRight(), back, list, dca);
-        } else if (back.compareTo(curr.getData()) < 0) {
-            traverseToBack(curr.getLeft(), back, list, dca);
+        if (i != word.length) {
+            return null;
         }
+        return path;
     }
 
-
     /**
-     * private helper method that updates the height and balance factor of a node
+     * private helper method that updates the height, balance factor, and subtree size of a node
      * @param curr current node to be updated
      */
     private void update(AVLNode<T> curr) {
@@ -326,6 +893,7 @@ public class AVL<T extends Comparable<? super T>> {
         int hRight = (curr.getRight() == null) ? -1 : curr.getRight().getHeight();
         curr.setHeight(Math.max(hLeft, hRight) + 1);
         curr.setBalanceFactor(hLeft - hRight);
+        curr.setSize(sizeOf(curr.getLeft()) + sizeOf(curr.getRight()) + 1);
     }
 
     /**
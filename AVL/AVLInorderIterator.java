@@ -0,0 +1,72 @@
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+
+/**
+ * Iterator that walks an AVL in-order using an explicit stack, so it uses
+ * no recursion and only holds the nodes on the current path. The walk can
+ * be limited to a range, in which case it descends once to the lower bound
+ * and stops after the upper bound.
+ *
+ * @author Sohum Gala
+ * @version 1.0
+ */
+public class AVLInorderIterator<T extends Comparable<? super T>> implements Iterator<T> {
+
+    private final Deque<AVLNode<T>> stack;
+    private final T hi;
+
+    /**
+     * Constructs a new AVLInorderIterator over the whole tree.
+     * @param root the root of the tree to traverse
+     */
+    AVLInorderIterator(AVLNode<T> root) {
+        this(root, null, null);
+    }
+
+    /**
+     * Constructs a new AVLInorderIterator over the data in [lo, hi].
+     * @param root the root of the tree to traverse
+     * @param lo   the lower bound of the range, or null for no lower bound
+     * @param hi   the upper bound of the range, or null for no upper bound
+     */
+    AVLInorderIterator(AVLNode<T> root, T lo, T hi) {
+        stack = new ArrayDeque<>();
+        this.hi = hi;
+        AVLNode<T> curr = root;
+        while (curr != null) {
+            if (lo != null && lo.compareTo(curr.getData()) > 0) {
+                curr = curr.getRight();
+            } else {
+                stack.push(curr);
+                curr = curr.getLeft();
+            }
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !stack.isEmpty() && (hi == null || hi.compareTo(stack.peek().getData()) >= 0);
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new java.util.NoSuchElementException("traversal has no more data");
+        }
+        AVLNode<T> curr = stack.pop();
+        pushLeft(curr.getRight());
+        return curr.getData();
+    }
+
+    /**
+     * private helper method that pushes a node and its chain of left children
+     * @param curr the first node to push
+     */
+    private void pushLeft(AVLNode<T> curr) {
+        while (curr != null) {
+            stack.push(curr);
+            curr = curr.getLeft();
+        }
+    }
+}
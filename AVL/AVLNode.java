@@ -10,6 +10,7 @@ public class AVLNode<T extends Comparable<? super T>> {
     private AVLNode<T> right;
     private int height;
     private int balanceFactor;
+    private int size;
 
     /**
      * Create an AVLNode with the given data.
@@ -17,6 +18,7 @@ public class AVLNode<T extends Comparable<? super T>> {
      */
     public AVLNode(T data) {
         this.data = data;
+        this.size = 1;
     }
 
     /**
@@ -59,6 +61,14 @@ public class AVLNode<T extends Comparable<? super T>> {
         return balanceFactor;
     }
 
+    /**
+     * Gets the number of nodes in the subtree rooted at this node.
+     * @return the size of the subtree
+     */
+    public int getSize() {
+        return size;
+    }
+
     /**
      * Sets the data.
      * @param data the new data
@@ -98,4 +108,12 @@ public class AVLNode<T extends Comparable<? super T>> {
     public void setBalanceFactor(int balanceFactor) {
         this.balanceFactor = balanceFactor;
     }
+
+    /**
+     * Sets the number of nodes in the subtree rooted at this node.
+     * @param size the new size of the subtree
+     */
+    public void setSize(int size) {
+        this.size = size;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,83 @@
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator over an AVL that splits on subtrees. Each spliterator covers
+ * an optional first data followed by one whole subtree, so a split hands the
+ * first data and the left subtree to the new spliterator and keeps the root
+ * and right subtree. Subtree sizes are cached in the nodes, so both halves
+ * know their exact size.
+ *
+ * @author Sohum Gala
+ * @version 1.0
+ */
+public class AVLSpliterator<T extends Comparable<? super T>> implements Spliterator<T> {
+
+    private T first;
+    private AVLNode<T> subtree;
+    private long size;
+    private Iterator<T> iterator;
+
+    /**
+     * Constructs a new AVLSpliterator over first followed by the subtree.
+     * @param first   data that comes before the subtree, or null for none
+     * @param subtree the root of the subtree to traverse
+     */
+    AVLSpliterator(T first, AVLNode<T> subtree) {
+        this.first = first;
+        this.subtree = subtree;
+        size = ((first == null) ? 0 : 1) + ((subtree == null) ? 0 : subtree.getSize());
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (action == null) {
+            throw new java.lang.NullPointerException("action cannot be null");
+        }
+        if (first != null) {
+            T data = first;
+            first = null;
+            size--;
+            action.accept(data);
+            return true;
+        }
+        if (iterator == null) {
+            iterator = new AVLInorderIterator<>(subtree);
+        }
+        if (!iterator.hasNext()) {
+            return false;
+        }
+        size--;
+        action.accept(iterator.next());
+        return true;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        if (iterator != null || subtree == null) {
+            return null;
+        }
+        Spliterator<T> prefix = new AVLSpliterator<>(first, subtree.getLeft());
+        first = subtree.getData();
+        subtree = subtree.getRight();
+        size -= prefix.estimateSize();
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return size;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SORTED | DISTINCT | NONNULL | SIZED | SUBSIZED;
+    }
+
+    @Override
+    public Comparator<? super T> getComparator() {
+        return null;
+    }
+}
@@ -0,0 +1,241 @@
+import java.util.Iterator;
+
+/**
+ * My Persistent AVL Implementation
+ *
+ * An immutable AVL. add and remove leave this tree unchanged and return a
+ * new version, copying only the O(log n) nodes on the path to the change and
+ * sharing every other node with the old version. Every version is a
+ * consistent snapshot that can be read by any number of threads without
+ * locking.
+ *
+ * @author Sohum Gala
+ * @version 1.0
+ */
+public final class PersistentAVL<T extends Comparable<? super T>> implements Iterable<T> {
+
+    private final PersistentAVLNode<T> root;
+
+    /**
+     * Constructs a new, empty PersistentAVL.
+     */
+    public PersistentAVL() {
+        this(null);
+    }
+
+    /**
+     * Constructs a PersistentAVL around an existing root.
+     * @param root the root of the tree
+     */
+    private PersistentAVL(PersistentAVLNode<T> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns a version of the tree with the data added. If the data is
+     * already in the tree, this tree is returned.
+     * @param data the data to add
+     * @return the new version of the tree
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public PersistentAVL<T> add(T data) {
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("Cannot add null data to data structure");
+        }
+        PersistentAVLNode<T> newRoot = addHelper(root, data);
+        return (newRoot == root) ? this : new PersistentAVL<>(newRoot);
+    }
+
+    /**
+     * Helper method for add(T data)
+     * @param curr the current node being traversed
+     * @param data the data to be added
+     * @return the new root of the subtree, or curr if nothing changed
+     */
+    private PersistentAVLNode<T> addHelper(PersistentAVLNode<T> curr, T data) {
+        if (curr == null) {
+            return new PersistentAVLNode<>(data, null, null);
+        }
+        int comparison = data.compareTo(curr.getData());
+        if (comparison < 0) {
+            PersistentAVLNode<T> left = addHelper(curr.getLeft(), data);
+            return (left == curr.getLeft()) ? curr : rebalance(curr.getData(), left, curr.getRight());
+        } else if (comparison > 0) {
+            PersistentAVLNode<T> right = addHelper(curr.getRight(), data);
+            return (right == curr.getRight()) ? curr : rebalance(curr.getData(), curr.getLeft(), right);
+        }
+        return curr;
+    }
+
+    /**
+     * Returns a version of the tree with the data removed.
+     * @param data the data to remove
+     * @return the new version of the tree
+     * @throws java.lang.IllegalArgumentException if data is null
+     * @throws java.util.NoSuchElementException   if the data is not in the tree
+     */
+    public PersistentAVL<T> remove(T data) {
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("Cannot remove null data from data structure");
+        }
+        return new PersistentAVL<>(removeHelper(root, data));
+    }
+
+    /**
+     * Helper method for remove(T data)
+     * @param curr the current node being traversed
+     * @param data the data being removed
+     * @return the new root of the subtree
+     */
+    private PersistentAVLNode<T> removeHelper(PersistentAVLNode<T> curr, T data) {
+        if (curr == null) {
+            throw new java.util.NoSuchElementException("Could not find specified data in data structure");
+        }
+        int comparison = data.compareTo(curr.getData());
+        if (comparison < 0) {
+            return rebalance(curr.getData(), removeHelper(curr.getLeft(), data), curr.getRight());
+        } else if (comparison > 0) {
+            return rebalance(curr.getData(), curr.getLeft(), removeHelper(curr.getRight(), data));
+        } else if (curr.getLeft() == null) {
+            return curr.getRight();
+        } else if (curr.getRight() == null) {
+            return curr.getLeft();
+        }
+        PersistentAVLNode<T> predecessor = curr.getLeft();
+        while (predecessor.getRight() != null) {
+            predecessor = predecessor.getRight();
+        }
+        return rebalance(predecessor.getData(), removeMax(curr.getLeft()), curr.getRight());
+    }
+
+    /**
+     * Helper method for removeHelper that removes the largest data in a
+     * subtree
+     * @param curr the root of the subtree, must not be null
+     * @return the new root of the subtree
+     */
+    private PersistentAVLNode<T> removeMax(PersistentAVLNode<T> curr) {
+        if (curr.getRight() == null) {
+            return curr.getLeft();
+        }
+        return rebalance(curr.getData(), curr.getLeft(), removeMax(curr.getRight()));
+    }
+
+    /**
+     * Returns the data from the tree matching the given parameter.
+     * @param data the data to search for in the tree
+     * @return the data in the tree equal to the parameter
+     * @throws java.lang.IllegalArgumentException if data is null
+     * @throws java.util.NoSuchElementException   if the data is not in the tree
+     */
+    public T get(T data) {
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("cannot retrieve null data from data structure");
+        }
+        PersistentAVLNode<T> curr = find(data);
+        if (curr == null) {
+            throw new java.util.NoSuchElementException("could not find specified data in data structure");
+        }
+        return curr.getData();
+    }
+
+    /**
+     * Returns whether or not data matching the given parameter is contained
+     * within the tree.
+     * @param data the data to search for in the tree
+     * @return true if the parameter is contained within the tree, false
+     * otherwise
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public boolean contains(T data) {
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("cannot search for null data in data structure");
+        }
+        return find(data) != null;
+    }
+
+    /**
+     * Returns the number of data in the tree.
+     * @return the size of the tree
+     */
+    public int size() {
+        return (root == null) ? 0 : root.getSize();
+    }
+
+    /**
+     * Returns the height of the root of the tree.
+     * @return the height of the root of the tree, -1 if the tree is empty
+     */
+    public int height() {
+        return (root == null) ? -1 : root.getHeight();
+    }
+
+    /**
+     * Returns whether or not the tree is empty.
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns an iterator that lazily walks the tree in-order. Since the tree
+     * never changes, the iterator is safe to use while other versions are
+     * being made.
+     * @return an in-order iterator over the tree
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new PersistentAVLIterator<>(root);
+    }
+
+    /**
+     * private helper method that finds the node holding data
+     * @param data data to search for
+     * @return the node holding data, or null if it is not in the tree
+     */
+    private PersistentAVLNode<T> find(T data) {
+        PersistentAVLNode<T> curr = root;
+        while (curr != null) {
+            int comparison = data.compareTo(curr.getData());
+            if (comparison == 0) {
+                return curr;
+            }
+            curr = (comparison < 0) ? curr.getLeft() : curr.getRight();
+        }
+        return null;
+    }
+
+    /**
+     * private helper method that builds a new node from data and two
+     * children, rotating if the children's heights differ by more than one
+     * @param data data of the new node
+     * @param left left child of the new node
+     * @param right right child of the new node
+     * @return the root of the balanced subtree
+     */
+    private PersistentAVLNode<T> rebalance(T data, PersistentAVLNode<T> left, PersistentAVLNode<T> right) {
+        int hLeft = (left == null) ? -1 : left.getHeight();
+        int hRight = (right == null) ? -1 : right.getHeight();
+        if (hLeft - hRight > 1) {
+            if (left.getBalanceFactor() < 0) {
+                PersistentAVLNode<T> pivot = left.getRight();
+                return new PersistentAVLNode<>(pivot.getData(),
+                        new PersistentAVLNode<>(left.getData(), left.getLeft(), pivot.getLeft()),
+                        new PersistentAVLNode<>(data, pivot.getRight(), right));
+            }
+            return new PersistentAVLNode<>(left.getData(), left.getLeft(),
+                    new PersistentAVLNode<>(data, left.getRight(), right));
+        } else if (hRight - hLeft > 1) {
+            if (right.getBalanceFactor() > 0) {
+                PersistentAVLNode<T> pivot = right.getLeft();
+                return new PersistentAVLNode<>(pivot.getData(),
+                        new PersistentAVLNode<>(data, left, pivot.getLeft()),
+                        new PersistentAVLNode<>(right.getData(), pivot.getRight(), right.getRight()));
+            }
+            return new PersistentAVLNode<>(right.getData(),
+                    new PersistentAVLNode<>(data, left, right.getLeft()), right.getRight());
+        }
+        return new PersistentAVLNode<>(data, left, right);
+    }
+}
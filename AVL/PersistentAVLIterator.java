@@ -0,0 +1,49 @@
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+
+/**
+ * Iterator that walks a PersistentAVL in-order using an explicit stack.
+ *
+ * @author Sohum Gala
+ * @version 1.0
+ */
+public class PersistentAVLIterator<T extends Comparable<? super T>> implements Iterator<T> {
+
+    private final Deque<PersistentAVLNode<T>> stack;
+
+    /**
+     * Constructs a new PersistentAVLIterator.
+     * @param root the root of the tree to traverse
+     */
+    PersistentAVLIterator(PersistentAVLNode<T> root) {
+        stack = new ArrayDeque<>();
+        pushLeft(root);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !stack.isEmpty();
+    }
+
+    @Override
+    public T next() {
+        if (stack.isEmpty()) {
+            throw new java.util.NoSuchElementException("traversal has no more data");
+        }
+        PersistentAVLNode<T> curr = stack.pop();
+        pushLeft(curr.getRight());
+        return curr.getData();
+    }
+
+    /**
+     * private helper method that pushes a node and its chain of left children
+     * @param curr the first node to push
+     */
+    private void pushLeft(PersistentAVLNode<T> curr) {
+        while (curr != null) {
+            stack.push(curr);
+            curr = curr.getLeft();
+        }
+    }
+}
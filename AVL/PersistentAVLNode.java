@@ -0,0 +1,80 @@
+/**
+ * Immutable node class used for implementing the PersistentAVL. Nodes are
+ * never changed once built, so any number of tree versions can share them.
+ *
+ * @author Sohum Gala
+ * @version 1.0
+ */
+public final class PersistentAVLNode<T extends Comparable<? super T>> {
+
+    private final T data;
+    private final PersistentAVLNode<T> left;
+    private final PersistentAVLNode<T> right;
+    private final int height;
+    private final int size;
+
+    /**
+     * Constructs a PersistentAVLNode, computing its height and subtree size
+     * from its children.
+     * @param data  the data stored in the new node
+     * @param left  the left child
+     * @param right the right child
+     */
+    PersistentAVLNode(T data, PersistentAVLNode<T> left, PersistentAVLNode<T> right) {
+        this.data = data;
+        this.left = left;
+        this.right = right;
+        int hLeft = (left == null) ? -1 : left.height;
+        int hRight = (right == null) ? -1 : right.height;
+        this.height = Math.max(hLeft, hRight) + 1;
+        this.size = ((left == null) ? 0 : left.size) + ((right == null) ? 0 : right.size) + 1;
+    }
+
+    /**
+     * Gets the data.
+     * @return the data
+     */
+    public T getData() {
+        return data;
+    }
+
+    /**
+     * Gets the left child.
+     * @return the left child
+     */
+    public PersistentAVLNode<T> getLeft() {
+        return left;
+    }
+
+    /**
+     * Gets the right child.
+     * @return the right child
+     */
+    public PersistentAVLNode<T> getRight() {
+        return right;
+    }
+
+    /**
+     * Gets the height.
+     * @return the height
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Gets the number of nodes in the subtree rooted at this node.
+     * @return the size of the subtree
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Gets the balance factor.
+     * @return the balance factor
+     */
+    public int getBalanceFactor() {
+        return ((left == null) ? -1 : left.height) - ((right == null) ? -1 : right.height);
+    }
+}
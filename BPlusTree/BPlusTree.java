@@ -0,0 +1,496 @@
+import java.util.Collection;
+import java.util.Iterator;
+
+/**
+ * My B+ Tree Implementation
+ *
+ * An ordered set that keeps many keys per node in sorted arrays, so a
+ * lookup touches one node per level of a very short tree instead of one
+ * node per level of a binary tree. The data lives in linked leaves, which
+ * makes range scans a walk along the leaves.
+ *
+ * Nodes are split on the way down when adding and are refilled on the way
+ * down when removing, so neither operation has to walk back up the tree.
+ *
+ * @author Sohum Gala
+ * @version 1.0
+ */
+public class BPlusTree<T extends Comparable<? super T>> implements Iterable<T> {
+
+    /**
+     * The most keys a node holds when created with the default constructor.
+     */
+    public static final int DEFAULT_FANOUT = 64;
+
+    /**
+     * The smallest fanout a BPlusTree can be created with.
+     */
+    public static final int MIN_FANOUT = 4;
+
+    private final int maxKeys;
+    private final int minKeys;
+    private BPlusTreeNode<T> root;
+    private int size;
+
+    /**
+     * Constructs a new BPlusTree.
+     */
+    public BPlusTree() {
+        this(DEFAULT_FANOUT);
+    }
+
+    /**
+     * Constructs a new BPlusTree whose nodes hold at most fanout keys.
+     * @param fanout the most keys a node can hold
+     * @throws java.lang.IllegalArgumentException if fanout is less than
+     *                                            MIN_FANOUT
+     */
+    public BPlusTree(int fanout) {
+        if (fanout < MIN_FANOUT) {
+            throw new java.lang.IllegalArgumentException("fanout must be at least " + MIN_FANOUT);
+        }
+        maxKeys = fanout;
+        minKeys = (fanout - 1) / 2;
+    }
+
+    /**
+     * Constructs a new BPlusTree with the data in the Collection.
+     * @param data the data to add to the tree
+     * @throws java.lang.IllegalArgumentException if data or any element in data
+     *                                            is null
+     */
+    public BPlusTree(Collection<T> data) {
+        this();
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("Cannot add null collection to data structure");
+        }
+        for (T datum : data) {
+            add(datum);
+        }
+    }
+
+    /**
+     * Adds the data to the tree. If the data is already in the tree, nothing
+     * happens.
+     * @param data the data to add
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void add(T data) {
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("Cannot add null data to data structure");
+        }
+        if (root == null) {
+            root = new BPlusTreeNode<>(maxKeys, true);
+        }
+        if (root.getCount() == maxKeys) {
+            BPlusTreeNode<T> newRoot = new BPlusTreeNode<>(maxKeys, false);
+            newRoot.getChildren()[0] = root;
+            splitChild(newRoot, 0);
+            root = newRoot;
+        }
+        BPlusTreeNode<T> curr = root;
+        while (!curr.isLeaf()) {
+            int i = childIndex(curr, data);
+            if (curr.getChildren()[i].getCount() == maxKeys) {
+                splitChild(curr, i);
+                if (data.compareTo(curr.getKeys()[i]) >= 0) {
+                    i++;
+                }
+            }
+            curr = curr.getChildren()[i];
+        }
+        int index = search(curr, data);
+        if (index < curr.getCount() && data.compareTo(curr.getKeys()[index]) == 0) {
+            return;
+        }
+        T[] keys = curr.getKeys();
+        System.arraycopy(keys, index, keys, index + 1, curr.getCount() - index);
+        keys[index] = data;
+        curr.setCount(curr.getCount() + 1);
+        size++;
+    }
+
+    /**
+     * Removes and returns the data from the tree matching the given parameter.
+     * @param data the data to remove
+     * @return the data that was removed
+     * @throws java.lang.IllegalArgumentException if data is null
+     * @throws java.util.NoSuchElementException   if the data is not in the tree
+     */
+    public T remove(T data) {
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("Cannot remove null data from data structure");
+        }
+        if (root == null) {
+            throw new java.util.NoSuchElementException("Could not find specified data in data structure");
+        }
+        BPlusTreeNode<T> curr = root;
+        while (!curr.isLeaf()) {
+            int i = childIndex(curr, data);
+            if (curr.getChildren()[i].getCount() <= minKeys) {
+                i = refill(curr, i);
+            }
+            BPlusTreeNode<T> child = curr.getChildren()[i];
+            if (curr == root && curr.getCount() == 0) {
+                // the root's last two children were merged, so the tree shrinks by a level
+                root = child;
+            }
+            curr = child;
+        }
+        int index = search(curr, data);
+        T removed = null;
+        if (index < curr.getCount() && data.compareTo(curr.getKeys()[index]) == 0) {
+            removed = curr.getKeys()[index];
+            T[] keys = curr.getKeys();
+            System.arraycopy(keys, index + 1, keys, index, curr.getCount() - index - 1);
+            keys[curr.getCount() - 1] = null;
+            curr.setCount(curr.getCount() - 1);
+            size--;
+        }
+        if (root.isLeaf() && root.getCount() == 0) {
+            root = null;
+        }
+        if (removed == null) {
+            throw new java.util.NoSuchElementException("Could not find specified data in data structure");
+        }
+        return removed;
+    }
+
+    /**
+     * Returns the data from the tree matching the given parameter.
+     * @param data the data to search for
+     * @return the data in the tree equal to the parameter
+     * @throws java.lang.IllegalArgumentException if data is null
+     * @throws java.util.NoSuchElementException   if the data is not in the tree
+     */
+    public T get(T data) {
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("cannot retrieve null data from data structure");
+        }
+        BPlusTreeNode<T> leaf = findLeaf(data);
+        int index = (leaf == null) ? 0 : search(leaf, data);
+        if (leaf == null || index == leaf.getCount() || data.compareTo(leaf.getKeys()[index]) != 0) {
+            throw new java.util.NoSuchElementException("could not find specified data in data structure");
+        }
+        return leaf.getKeys()[index];
+    }
+
+    /**
+     * Returns whether or not data matching the given parameter is contained
+     * within the tree.
+     * @param data the data to search for
+     * @return true if the parameter is contained within the tree, false
+     * otherwise
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public boolean contains(T data) {
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("cannot search for null data in data structure");
+        }
+        BPlusTreeNode<T> leaf = findLeaf(data);
+        if (leaf == null) {
+            return false;
+        }
+        int index = search(leaf, data);
+        return index < leaf.getCount() && data.compareTo(leaf.getKeys()[index]) == 0;
+    }
+
+    /**
+     * Returns an iterator that lazily walks the data in [lo, hi] in order.
+     * The iterator descends to lo once and then walks the linked leaves.
+     * @param lo the lower bound of the range, inclusive
+     * @param hi the upper bound of the range, inclusive
+     * @return an in-order iterator over the data in the range
+     * @throws java.lang.IllegalArgumentException if lo or hi is null
+     */
+    public Iterator<T> range(T lo, T hi) {
+        if (lo == null || hi == null) {
+            throw new java.lang.IllegalArgumentException("range bounds cannot be null");
+        }
+        BPlusTreeNode<T> leaf = findLeaf(lo);
+        return new BPlusTreeIterator<>(leaf, (leaf == null) ? 0 : search(leaf, lo), hi);
+    }
+
+    /**
+     * Returns an iterator that lazily walks the tree in order.
+     * @return an in-order iterator over the tree
+     */
+    @Override
+    public Iterator<T> iterator() {
+        BPlusTreeNode<T> leaf = root;
+        while (leaf != null && !leaf.isLeaf()) {
+            leaf = leaf.getChildren()[0];
+        }
+        return new BPlusTreeIterator<>(leaf, 0, null);
+    }
+
+    /**
+     * Returns the number of data in the tree.
+     * @return the size of the tree
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the most keys a node in the tree can hold.
+     * @return the fanout of the tree
+     */
+    public int getFanout() {
+        return maxKeys;
+    }
+
+    /**
+     * Clears the tree.
+     */
+    public void clear() {
+        root = null;
+        size = 0;
+    }
+
+    /**
+     * private helper method that finds the leaf that holds or would hold data
+     * @param data data to search for
+     * @return the leaf for data, or null if the tree is empty
+     */
+    private BPlusTreeNode<T> findLeaf(T data) {
+        BPlusTreeNode<T> curr = root;
+        while (curr != null && !curr.isLeaf()) {
+            curr = curr.getChildren()[childIndex(curr, data)];
+        }
+        return curr;
+    }
+
+    /**
+     * private helper method that binary searches a node for the first key
+     * greater than or equal to data
+     * @param node node to search
+     * @param data data to search for
+     * @return index of the first key not less than data, or the node's count
+     * if every key is less
+     */
+    private int search(BPlusTreeNode<T> node, T data) {
+        T[] keys = node.getKeys();
+        int lo = 0;
+        int hi = node.getCount();
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (keys[mid].compareTo(data) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * private helper method that picks the child of an internal node to
+     * descend into
+     * @param node internal node to search
+     * @param data data to search for
+     * @return index of the child whose range holds data
+     */
+    private int childIndex(BPlusTreeNode<T> node, T data) {
+        T[] keys = node.getKeys();
+        int lo = 0;
+        int hi = node.getCount();
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (keys[mid].compareTo(data) <= 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * private helper method that splits a full child in half, adding a
+     * separator key and the new right half to the parent
+     * @param parent internal node with room for another key
+     * @param i index of the full child in the parent
+     */
+    private void splitChild(BPlusTreeNode<T> parent, int i) {
+        BPlusTreeNode<T> child = parent.getChildren()[i];
+        BPlusTreeNode<T> right = new BPlusTreeNode<>(maxKeys, child.isLeaf());
+        int mid = child.getCount() / 2;
+        T separator;
+        if (child.isLeaf()) {
+            int moved = child.getCount() - mid;
+            System.arraycopy(child.getKeys(), mid, right.getKeys(), 0, moved);
+            clearKeys(child, mid, child.getCount());
+            right.setCount(moved);
+            right.setNext(child.getNext());
+            child.setNext(right);
+            separator = right.getKeys()[0];
+        } else {
+            separator = child.getKeys()[mid];
+            int moved = child.getCount() - mid - 1;
+            System.arraycopy(child.getKeys(), mid + 1, right.getKeys(), 0, moved);
+            System.arraycopy(child.getChildren(), mid + 1, right.getChildren(), 0, moved + 1);
+            clearKeys(child, mid, child.getCount());
+            clearChildren(child, mid + 1, child.getCount() + 1);
+            right.setCount(moved);
+        }
+        child.setCount(mid);
+        insertIntoParent(parent, i, separator, right);
+    }
+
+    /**
+     * private helper method that makes sure the child about to be descended
+     * into during a removal holds more than the minimum number of keys, by
+     * borrowing a key from a sibling or merging with one
+     * @param parent internal node whose child is refilled
+     * @param i index of the child in the parent
+     * @return index of the child to descend into, which moves left when the
+     * child is merged into its left sibling
+     */
+    private int refill(BPlusTreeNode<T> parent, int i) {
+        BPlusTreeNode<T>[] children = parent.getChildren();
+        BPlusTreeNode<T> left = (i > 0) ? children[i - 1] : null;
+        BPlusTreeNode<T> right = (i < parent.getCount()) ? children[i + 1] : null;
+        if (left != null && left.getCount() > minKeys) {
+            borrowFromLeft(parent, i);
+            return i;
+        } else if (right != null && right.getCount() > minKeys) {
+            borrowFromRight(parent, i);
+            return i;
+        } else if (right != null) {
+            merge(parent, i);
+            return i;
+        } else {
+            merge(parent, i - 1);
+            return i - 1;
+        }
+    }
+
+    /**
+     * private helper method that moves the last key of a child's left sibling
+     * into the child
+     * @param parent internal node holding both children
+     * @param i index of the child that receives the key
+     */
+    private void borrowFromLeft(BPlusTreeNode<T> parent, int i) {
+        BPlusTreeNode<T> child = parent.getChildren()[i];
+        BPlusTreeNode<T> left = parent.getChildren()[i - 1];
+        T[] keys = child.getKeys();
+        System.arraycopy(keys, 0, keys, 1, child.getCount());
+        if (child.isLeaf()) {
+            keys[0] = left.getKeys()[left.getCount() - 1];
+            parent.getKeys()[i - 1] = keys[0];
+        } else {
+            BPlusTreeNode<T>[] children = child.getChildren();
+            System.arraycopy(children, 0, children, 1, child.getCount() + 1);
+            keys[0] = parent.getKeys()[i - 1];
+            children[0] = left.getChildren()[left.getCount()];
+            left.getChildren()[left.getCount()] = null;
+            parent.getKeys()[i - 1] = left.getKeys()[left.getCount() - 1];
+        }
+        left.getKeys()[left.getCount() - 1] = null;
+        left.setCount(left.getCount() - 1);
+        child.setCount(child.getCount() + 1);
+    }
+
+    /**
+     * private helper method that moves the first key of a child's right
+     * sibling into the child
+     * @param parent internal node holding both children
+     * @param i index of the child that receives the key
+     */
+    private void borrowFromRight(BPlusTreeNode<T> parent, int i) {
+        BPlusTreeNode<T> child = parent.getChildren()[i];
+        BPlusTreeNode<T> right = parent.getChildren()[i + 1];
+        T[] rightKeys = right.getKeys();
+        if (child.isLeaf()) {
+            child.getKeys()[child.getCount()] = rightKeys[0];
+            System.arraycopy(rightKeys, 1, rightKeys, 0, right.getCount() - 1);
+            parent.getKeys()[i] = rightKeys[0];
+        } else {
+            BPlusTreeNode<T>[] rightChildren = right.getChildren();
+            child.getKeys()[child.getCount()] = parent.getKeys()[i];
+            child.getChildren()[child.getCount() + 1] = rightChildren[0];
+            parent.getKeys()[i] = rightKeys[0];
+            System.arraycopy(rightKeys, 1, rightKeys, 0, right.getCount() - 1);
+            System.arraycopy(rightChildren, 1, rightChildren, 0, right.getCount());
+            rightChildren[right.getCount()] = null;
+        }
+        rightKeys[right.getCount() - 1] = null;
+        right.setCount(right.getCount() - 1);
+        child.setCount(child.getCount() + 1);
+    }
+
+    /**
+     * private helper method that merges the child at i + 1 into the child at
+     * i and removes the separator between them from the parent
+     * @param parent internal node holding both children
+     * @param i index of the left child of the pair
+     */
+    private void merge(BPlusTreeNode<T> parent, int i) {
+        BPlusTreeNode<T> left = parent.getChildren()[i];
+        BPlusTreeNode<T> right = parent.getChildren()[i + 1];
+        int count = left.getCount();
+        if (left.isLeaf()) {
+            System.arraycopy(right.getKeys(), 0, left.getKeys(), count, right.getCount());
+            left.setCount(count + right.getCount());
+            left.setNext(right.getNext());
+        } else {
+            left.getKeys()[count] = parent.getKeys()[i];
+            System.arraycopy(right.getKeys(), 0, left.getKeys(), count + 1, right.getCount());
+            System.arraycopy(right.getChildren(), 0, left.getChildren(), count + 1, right.getCount() + 1);
+            left.setCount(count + 1 + right.getCount());
+        }
+        T[] keys = parent.getKeys();
+        BPlusTreeNode<T>[] children = parent.getChildren();
+        System.arraycopy(keys, i + 1, keys, i, parent.getCount() - i - 1);
+        System.arraycopy(children, i + 2, children, i + 1, parent.getCount() - i - 1);
+        keys[parent.getCount() - 1] = null;
+        children[parent.getCount()] = null;
+        parent.setCount(parent.getCount() - 1);
+    }
+
+    /**
+     * private helper method that adds a separator key and the child to its
+     * right into an internal node
+     * @param parent internal node with room for another key
+     * @param i index the separator is added at
+     * @param separator the separator key
+     * @param right the child that goes after the separator
+     */
+    private void insertIntoParent(BPlusTreeNode<T> parent, int i, T separator, BPlusTreeNode<T> right) {
+        T[] keys = parent.getKeys();
+        BPlusTreeNode<T>[] children = parent.getChildren();
+        System.arraycopy(keys, i, keys, i + 1, parent.getCount() - i);
+        System.arraycopy(children, i + 1, children, i + 2, parent.getCount() - i);
+        keys[i] = separator;
+        children[i + 1] = right;
+        parent.setCount(parent.getCount() + 1);
+    }
+
+    /**
+     * private helper method that clears unused key slots so their data can be
+     * garbage collected
+     * @param node node to clear
+     * @param start first slot to clear
+     * @param end slot after the last one to clear
+     */
+    private void clearKeys(BPlusTreeNode<T> node, int start, int end) {
+        for (int i = start; i < end; i++) {
+            node.getKeys()[i] = null;
+        }
+    }
+
+    /**
+     * private helper method that clears unused child slots so the nodes can
+     * be garbage collected
+     * @param node node to clear
+     * @param start first slot to clear
+     * @param end slot after the last one to clear
+     */
+    private void clearChildren(BPlusTreeNode<T> node, int start, int end) {
+        for (int i = start; i < end; i++) {
+            node.getChildren()[i] = null;
+        }
+    }
+}
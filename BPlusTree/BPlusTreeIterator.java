@@ -0,0 +1,57 @@
+import java.util.Iterator;
+
+/**
+ * Iterator that walks the leaves of a BPlusTree in order, optionally
+ * stopping after an upper bound. Once positioned, it never revisits the
+ * internal nodes.
+ *
+ * @author Sohum Gala
+ * @version 1.0
+ */
+public class BPlusTreeIterator<T extends Comparable<? super T>> implements Iterator<T> {
+
+    private BPlusTreeNode<T> leaf;
+    private int index;
+    private final T hi;
+
+    /**
+     * Constructs a new BPlusTreeIterator.
+     * @param leaf  the leaf holding the first data to return, or null if there
+     *              is none
+     * @param index the index of the first data in the leaf
+     * @param hi    the upper bound of the walk, or null for no upper bound
+     */
+    BPlusTreeIterator(BPlusTreeNode<T> leaf, int index, T hi) {
+        this.leaf = leaf;
+        this.index = index;
+        this.hi = hi;
+        skipExhaustedLeaves();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return leaf != null && (hi == null || hi.compareTo(leaf.getKeys()[index]) >= 0);
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new java.util.NoSuchElementException("traversal has no more data");
+        }
+        T data = leaf.getKeys()[index];
+        index++;
+        skipExhaustedLeaves();
+        return data;
+    }
+
+    /**
+     * private helper method that moves to the next leaf with data left once
+     * the current one is used up
+     */
+    private void skipExhaustedLeaves() {
+        while (leaf != null && index >= leaf.getCount()) {
+            leaf = leaf.getNext();
+            index = 0;
+        }
+    }
+}
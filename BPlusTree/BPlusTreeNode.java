@@ -0,0 +1,85 @@
+/**
+ * Node class used for implementing the BPlusTree. Leaves hold the data in
+ * sorted order and are linked to the next leaf. Internal nodes hold sorted
+ * separator keys, where the child after a key holds the data greater than or
+ * equal to it.
+ *
+ * @author Sohum Gala
+ * @version 1.0
+ */
+public class BPlusTreeNode<T extends Comparable<? super T>> {
+
+    private final T[] keys;
+    private final BPlusTreeNode<T>[] children;
+    private final boolean leaf;
+    private int count;
+    private BPlusTreeNode<T> next;
+
+    /**
+     * Constructs an empty BPlusTreeNode.
+     * @param maxKeys the most keys the node can hold
+     * @param leaf    whether the node is a leaf
+     */
+    BPlusTreeNode(int maxKeys, boolean leaf) {
+        this.keys = (T[]) new Comparable[maxKeys];
+        this.children = leaf ? null : (BPlusTreeNode<T>[]) new BPlusTreeNode[maxKeys + 1];
+        this.leaf = leaf;
+    }
+
+    /**
+     * Gets the keys. Only the first count keys are in use.
+     * @return the keys
+     */
+    T[] getKeys() {
+        return keys;
+    }
+
+    /**
+     * Gets the children. Only the first count + 1 children are in use, and
+     * leaves have no children.
+     * @return the children, or null for a leaf
+     */
+    BPlusTreeNode<T>[] getChildren() {
+        return children;
+    }
+
+    /**
+     * Gets whether the node is a leaf.
+     * @return true if the node is a leaf, false otherwise
+     */
+    boolean isLeaf() {
+        return leaf;
+    }
+
+    /**
+     * Gets the number of keys in use.
+     * @return the number of keys
+     */
+    int getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the next leaf.
+     * @return the next leaf, or null if this is the last leaf
+     */
+    BPlusTreeNode<T> getNext() {
+        return next;
+    }
+
+    /**
+     * Sets the number of keys in use.
+     * @param count the new number of keys
+     */
+    void setCount(int count) {
+        this.count = count;
+    }
+
+    /**
+     * Sets the next leaf.
+     * @param next the new next leaf
+     */
+    void setNext(BPlusTreeNode<T> next) {
+        this.next = next;
+    }
+}
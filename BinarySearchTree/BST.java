@@ -1,7 +1,14 @@
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Queue;
-import java.util.LinkedList;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * My BST Implementation
@@ -9,7 +16,13 @@ import java.util.LinkedList;
  * @author Sohum Gala
  * @version 1.0
  */
-public class BST<T extends Comparable<? super T>> {
+public class BST<T extends Comparable<? super T>> implements Iterable<T> {
+
+    /**
+     * fromSorted builds the two halves of every subtree with at least this
+     * many data concurrently.
+     */
+    public static final int PARALLEL_BUILD_THRESHOLD = 1 << 13;
 
     private BSTNode<T> root;
     private int size;
@@ -41,6 +54,67 @@ public class BST<T extends Comparable<? super T>> {
         }
     }
 
+    /**
+     * Builds a balanced BST from data in strictly ascending order in O(n),
+     * instead of adding each element. The build runs on the given pool.
+     * @param <T>    data type stored in the tree
+     * @param sorted the data to add, in strictly ascending order
+     * @param pool   the ForkJoinPool to build on
+     * @return a balanced BST holding the data
+     * @throws java.lang.IllegalArgumentException if sorted, pool, or any
+     *                                            element in sorted is null,
+     *                                            or if the data is not
+     *                                            strictly ascending
+     */
+    public static <T extends Comparable<? super T>> BST<T> fromSorted(List<T> sorted, ForkJoinPool pool) {
+        if (sorted == null || pool == null) {
+            throw new java.lang.IllegalArgumentException("sorted data or pool cannot be null");
+        }
+        List<T> data = new ArrayList<>(sorted);
+        for (int i = 0; i < data.size(); i++) {
+            if (data.get(i) == null) {
+                throw new java.lang.IllegalArgumentException("Cannot add null data to data structure");
+            }
+            if (i > 0 && data.get(i - 1).compareTo(data.get(i)) >= 0) {
+                throw new java.lang.IllegalArgumentException("data must be in strictly ascending order");
+            }
+        }
+        BST<T> tree = new BST<>();
+        if (!data.isEmpty()) {
+            tree.root = pool.invoke(ForkJoinTask.adapt(() -> tree.buildBalanced(data, 0, data.size() - 1)));
+        }
+        tree.size = data.size();
+        return tree;
+    }
+
+    /**
+     * private helper method that builds a balanced tree from sorted data,
+     * forking the left half of large subtrees
+     * @param sorted data in strictly ascending order
+     * @param start index of the first data in the subtree
+     * @param end index of the last data in the subtree
+     * @return the root of the subtree
+     */
+    private BSTNode<T> buildBalanced(List<T> sorted, int start, int end) {
+        if (start > end) {
+            return null;
+        }
+        int mid = (start + end) >>> 1;
+        BSTNode<T> curr = new BSTNode<>(sorted.get(mid));
+        if (end - start >= PARALLEL_BUILD_THRESHOLD) {
+            ForkJoinTask<BSTNode<T>> left = ForkJoinTask.adapt(() -> buildBalanced(sorted, start, mid - 1)).fork();
+            curr.setRight(buildBalanced(sorted, mid + 1, end));
+            curr.setLeft(left.join());
+        } else {
+            curr.setLeft(buildBalanced(sorted, start, mid - 1));
+            curr.setRight(buildBalanced(sorted, mid + 1, end));
+        }
+        int hLeft = (curr.getLeft() == null) ? -1 : curr.getLeft().getHeight();
+        int hRight = (curr.getRight() == null) ? -1 : curr.getRight().getHeight();
+        curr.setHeight(Math.max(hLeft, hRight) + 1);
+        return curr;
+    }
+
     /**
      * Adds the data to the tree.
      * @param data the data to add
@@ -50,25 +124,30 @@ public class BST<T extends Comparable<? super T>> {
         if (data == null) {
             throw new java.lang.IllegalArgumentException("Cannot add null data to data structure");
         }
-        root = addHelper(root, data);
-    }
-    /**
-     * Helper method for add(T data)
-     *
-     * @param data the data to be added
-     * @param curr the current node being traversed
-     * @return either new node to be added or current node to be pointer reinforced
-     */
-    private BSTNode<T> addHelper(BSTNode<T> curr, T data) {
-        if (curr == null) {
-            size++;
-            return new BSTNode<T>(data);
-        } else if (data.compareTo(curr.getData()) < 0) {
-            curr.setLeft(addHelper(curr.getLeft(), data));
-        } else if (data.compareTo(curr.getData()) > 0) {
-            curr.setRight(addHelper(curr.getRight(), data));
+        List<BSTNode<T>> path = new ArrayList<>();
+        BSTNode<T> curr = root;
+        int comparison = 0;
+        while (curr != null) {
+            comparison = data.compareTo(curr.getData());
+            if (comparison == 0) {
+                return;
+            }
+            path.add(curr);
+            curr = (comparison < 0) ? curr.getLeft() : curr.getRight();
         }
-        return curr;
+        BSTNode<T> node = new BSTNode<>(data);
+        size++;
+        if (path.isEmpty()) {
+            root = node;
+            return;
+        }
+        BSTNode<T> parent = path.get(path.size() - 1);
+        if (comparison < 0) {
+            parent.setLeft(node);
+        } else {
+            parent.setRight(node);
+        }
+        updateHeights(path);
     }
 
     /**
@@ -82,54 +161,41 @@ public class BST<T extends Comparable<? super T>> {
         if (data == null) {
             throw new java.lang.IllegalArgumentException("Cannot remove null data from data structure");
         }
-        BSTNode<T> dummy = new BSTNode<>(null);
-        root = removeHelper(root, data, dummy);
-        return dummy.getData();
-    }
-    /**
-     * Helper method for remove(T data)
-     * @param curr the current node being traversed
-     * @param data the data being removed
-     * @param dummy node that contains copy of data from node to be removed
-     * @return either the outcome of the removal in the case of no children or current node to be pointer reinforced
-     */
-    private BSTNode<T> removeHelper(BSTNode<T> curr, T data, BSTNode<T> dummy) {
+        List<BSTNode<T>> path = new ArrayList<>();
+        BSTNode<T> curr = root;
+        while (curr != null && !data.equals(curr.getData())) {
+            path.add(curr);
+            curr = (data.compareTo(curr.getData()) < 0) ? curr.getLeft() : curr.getRight();
+        }
         if (curr == null) {
             throw new java.util.NoSuchElementException("Could not find specified data in data structure");
         }
-        if (data.compareTo(curr.getData()) < 0) {
-            curr.setLeft(removeHelper(curr.getLeft(), data, dummy));
-        } else if (data.compareTo(curr.getData()) > 0) {
-            curr.setRight(removeHelper(curr.getRight(), data, dummy));
-        } else if (data.equals(curr.getData())) {
-            dummy.setData(curr.getData());
-            size--;
-            if (curr.getLeft() != null && curr.getRight() != null) {
-                BSTNode<T> tempDummy = new BSTNode<>(null);
-                curr.setRight(successor(curr.getRight(), tempDummy));
-                curr.setData(tempDummy.getData());
-            } else if (curr.getLeft() != null || curr.getRight() != null) {
-                return (curr.getLeft() != null) ? curr.getLeft() : curr.getRight();
-            } else {
-                return null;
+        T removed = curr.getData();
+        size--;
+        if (curr.getLeft() != null && curr.getRight() != null) {
+            // replace the data with the successor's, then unlink the successor instead
+            path.add(curr);
+            BSTNode<T> successor = curr.getRight();
+            while (successor.getLeft() != null) {
+                path.add(successor);
+                successor = successor.getLeft();
             }
+            curr.setData(successor.getData());
+            curr = successor;
         }
-        return curr;
-    }
-
-    /**
-     * Helper method for removeHelper to deal with successor logic
-     * @param curr current node being traversed
-     * @param temp node to store data from leaf node to be deleted
-     * @return either node to traverse to find successor or current node to be pointer reinforced
-     */
-    private BSTNode<T> successor(BSTNode<T> curr, BSTNode<T> temp) {
-        if (curr.getLeft() == null) {
-            temp.setData(curr.getData());
-            return curr.getRight();
+        BSTNode<T> child = (curr.getLeft() != null) ? curr.getLeft() : curr.getRight();
+        if (path.isEmpty()) {
+            root = child;
+        } else {
+            BSTNode<T> parent = path.get(path.size() - 1);
+            if (parent.getLeft() == curr) {
+                parent.setLeft(child);
+            } else {
+                parent.setRight(child);
+            }
+            updateHeights(path);
         }
-        curr.setLeft(successor(curr.getLeft(), temp));
-        return curr;
+        return removed;
     }
 
     /**
@@ -144,25 +210,11 @@ public class BST<T extends Comparable<? super T>> {
         if (data == null) {
             throw new java.lang.IllegalArgumentException("cannot retrieve null data from data structure");
         }
-        return getHelper(root, data);
-    }
-
-    /**
-     * private helper method for above get method
-     * @param curr current node being traversed
-     * @param data data to be retrieved from BST
-     * @return data stored in BST if it matches data passed in
-     */
-    private T getHelper(BSTNode<T> curr, T data) {
+        BSTNode<T> curr = find(data);
         if (curr == null) {
             throw new java.util.NoSuchElementException("could not find specified data in data structure");
-        } else if (curr.getData().equals(data)) {
-            return curr.getData();
-        } else if (data.compareTo(curr.getData()) < 0) {
-            return getHelper(curr.getLeft(), data);
-        } else {
-            return getHelper(curr.getRight(), data);
         }
+        return curr.getData();
     }
 
     /**
@@ -178,101 +230,95 @@ public class BST<T extends Comparable<? super T>> {
         if (data == null) {
             throw new java.lang.IllegalArgumentException("cannot search for null data in data structure");
         }
-        return containsHelper(root, data);
+        return find(data) != null;
     }
 
     /**
-     * private helper method for above contains method
-     * @param curr current node being traversed
-     * @param data data to be searched for in the bST
-     * @return true or false depending on whether or not the data was found in the BST
+     * Generate a pre-order traversal of the tree.
+     * @return the preorder traversal of the tree
      */
-    private boolean containsHelper(BSTNode<T> curr, T data) {
-        if (curr == null) {
-            return false;
-        } else if (curr.getData().equals(data)) {
-            return true;
-        } else if (data.compareTo(curr.getData()) < 0) {
-            return containsHelper(curr.getLeft(), data);
-        } else {
-            return containsHelper(curr.getRight(), data);
-        }
+    public List<T> preorder() {
+        return toList(preorderIterator());
     }
 
     /**
-     * Generate a pre-order traversal of the tree.
-     * @return the preorder traversal of the tree
+     * Generate an in-order traversal of the tree.
+     * @return the inorder traversal of the tree
      */
-    public List<T> preorder() {
-        List<T> traversal = new LinkedList<T>();
-        preorderHelper(root, traversal);
-        return traversal;
+    public List<T> inorder() {
+        return toList(inorderIterator());
     }
+
     /**
-     * private recursive helper method for preorder traversal
-     * @param node node to be passed in for recursion
-     * @param list list data will be added to as traversal progresses
+     * Generate a post-order traversal of the tree.
+     * @return the postorder traversal of the tree
      */
-    private void preorderHelper(BSTNode<T> node, List<T> list) {
-        if (node != null) {
-            list.add(node.getData());
-            preorderHelper(node.getLeft(), list);
-            preorderHelper(node.getRight(), list);
-        }
+    public List<T> postorder() {
+        return toList(postorderIterator());
     }
 
     /**
-     * Generate an in-order traversal of the tree.
-     * @return the inorder traversal of the tree
+     * Returns an iterator that lazily walks the tree in pre-order.
+     * @return a pre-order iterator over the tree
      */
-    public List<T> inorder() {
-        List<T> traversal = new LinkedList<T>();
-        inorderHelper(root, traversal);
-        return traversal;
+    public Iterator<T> preorderIterator() {
+        return new BSTPreorderIterator<>(root);
     }
 
     /**
-     * private recursive helper method for inorder traversal
-     * @param node node to be passed in for recursion
-     * @param list list data will be added to as traversal progresses
+     * Returns an iterator that lazily walks the tree in-order.
+     * @return an in-order iterator over the tree
      */
-    private void inorderHelper(BSTNode<T> node, List<T> list) {
-        if (node != null) {
-            inorderHelper(node.getLeft(), list);
-            list.add(node.getData());
-            inorderHelper(node.getRight(), list);
-        }
+    public Iterator<T> inorderIterator() {
+        return new BSTInorderIterator<>(root);
     }
 
     /**
-     * Generate a post-order traversal of the tree.
-     * @return the postorder traversal of the tree
+     * Returns an iterator that lazily walks the tree in post-order.
+     * @return a post-order iterator over the tree
      */
-    public List<T> postorder() {
-        List<T> traversal = new LinkedList<T>();
-        postorderHelper(root, traversal);
-        return traversal;
+    public Iterator<T> postorderIterator() {
+        return new BSTPostorderIterator<>(root);
     }
 
     /**
-     * private recursive helper method for postorder traversal
-     * @param node node to be passed in for recursion
-     * @param list list data will be added to as traversal progresses
+     * Returns an iterator that lazily walks the tree in-order.
+     * @return an in-order iterator over the tree
      */
-    private void postorderHelper(BSTNode<T> node, List<T> list) {
-        if (node != null) {
-            postorderHelper(node.getLeft(), list);
-            postorderHelper(node.getRight(), list);
-            list.add(node.getData());
-        }
+    @Override
+    public Iterator<T> iterator() {
+        return inorderIterator();
+    }
+
+    /**
+     * Returns a spliterator that walks the tree in-order and splits on
+     * subtrees, so a parallel stream hands each thread whole subtrees.
+     * @return an in-order spliterator over the tree
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new BSTSpliterator<>(null, root, size);
     }
+
+    /**
+     * Returns a sequential stream over the tree in-order. Call parallel() on
+     * it to process subtrees on different threads.
+     * @return an in-order stream over the tree
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
     /**
      * Generate a level-order traversal of the tree.
      * @return the level order traversal of the tree
      */
     public List<T> levelorder() {
-        List<T> traversal = new LinkedList<>();
-        Queue<BSTNode<T>> q = new LinkedList<>();
+        List<T> traversal = new ArrayList<>(size);
+        if (root == null) {
+            return traversal;
+        }
+        Queue<BSTNode<T>> q = new ArrayDeque<>();
         q.add(root);
         while (!q.isEmpty()) {
             BSTNode<T> curr = q.poll();
@@ -293,20 +339,7 @@ public class BST<T extends Comparable<? super T>> {
      */
 
     public int height() {
-        return heightHelper(root);
-    }
-
-    /**
-     * private helper method for above height method
-     * @param curr current node being traversed
-     * @return height of the root of the tree
-     */
-    private int heightHelper(BSTNode<T> curr) {
-        if (curr == null) {
-            return -1;
-        } else {
-            return Math.max(heightHelper(curr.getLeft()), heightHelper(curr.getRight())) + 1;
-        }
+        return (root == null) ? -1 : root.getHeight();
     }
 
     /**
@@ -327,27 +360,51 @@ public class BST<T extends Comparable<? super T>> {
      */
 
     public List<T> kLargest(int k) {
-        if (k > size || k < 0) {
-            throw new java.lang.IllegalArgumentException("input should be between 0 and " + size);
+        return TreeTraversals.kLargest(root, size, k, BSTNode::getLeft, BSTNode::getRight, BSTNode::getData);
+    }
+
+    /**
+     * private helper method that finds the node holding data
+     * @param data data to search for
+     * @return the node holding data, or null if it is not in the tree
+     */
+    private BSTNode<T> find(T data) {
+        BSTNode<T> curr = root;
+        while (curr != null && !curr.getData().equals(data)) {
+            curr = (data.compareTo(curr.getData()) < 0) ? curr.getLeft() : curr.getRight();
+        }
+        return curr;
+    }
+
+    /**
+     * private helper method that collects the rest of an iterator into a list
+     * @param iterator the iterator to drain
+     * @return list of the data returned by the iterator
+     */
+    private List<T> toList(Iterator<T> iterator) {
+        List<T> list = new ArrayList<>(size);
+        while (iterator.hasNext()) {
+            list.add(iterator.next());
         }
-        List<T> largest = new LinkedList<T>();
-        kLargestHelper(root, largest, k);
-        return largest;
+        return list;
     }
 
     /**
-     * private helper method for above kLargest method
-     * @param curr current node being traversed
-     * @param list list in which values are being stored
-     * @param k number of the largest elements in the list that are desired
+     * private helper method that recomputes the cached heights of the nodes
+     * on a path after a child below the last node changed, stopping early
+     * once a height does not change
+     * @param path nodes from the root down to the parent of the changed child
      */
-    private void kLargestHelper(BSTNode<T> curr, List<T> list, int k) {
-        if (curr != null && list.size() < k) {
-            kLargestHelper(curr.getRight(), list, k);
-            if (list.size() < k) {
-                list.add(0, curr.getData());
+    private void updateHeights(List<BSTNode<T>> path) {
+        for (int i = path.size() - 1; i >= 0; i--) {
+            BSTNode<T> curr = path.get(i);
+            int hLeft = (curr.getLeft() == null) ? -1 : curr.getLeft().getHeight();
+            int hRight = (curr.getRight() == null) ? -1 : curr.getRight().getHeight();
+            int height = Math.max(hLeft, hRight) + 1;
+            if (height == curr.getHeight()) {
+                return;
             }
-            kLargestHelper(curr.getLeft(), list, k);
+            curr.setHeight(height);
         }
     }
 }
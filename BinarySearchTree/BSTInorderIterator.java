@@ -0,0 +1,50 @@
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+
+/**
+ * Iterator that walks a BST in-order using an explicit stack, so it uses
+ * no recursion and only holds the nodes on the current path.
+ *
+ * @author Sohum Gala
+ * @version 1.0
+ */
+public class BSTInorderIterator<T extends Comparable<? super T>> implements Iterator<T> {
+
+    private final Deque<BSTNode<T>> stack;
+
+    /**
+     * Constructs a new BSTInorderIterator.
+     * @param root the root of the tree to traverse
+     */
+    BSTInorderIterator(BSTNode<T> root) {
+        stack = new ArrayDeque<>();
+        pushLeft(root);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !stack.isEmpty();
+    }
+
+    @Override
+    public T next() {
+        if (stack.isEmpty()) {
+            throw new java.util.NoSuchElementException("traversal has no more data");
+        }
+        BSTNode<T> curr = stack.pop();
+        pushLeft(curr.getRight());
+        return curr.getData();
+    }
+
+    /**
+     * private helper method that pushes a node and its chain of left children
+     * @param curr the first node to push
+     */
+    private void pushLeft(BSTNode<T> curr) {
+        while (curr != null) {
+            stack.push(curr);
+            curr = curr.getLeft();
+        }
+    }
+}
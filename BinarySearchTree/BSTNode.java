@@ -8,6 +8,7 @@ public class BSTNode<T extends Comparable<? super T>> {
     private T data;
     private BSTNode<T> left;
     private BSTNode<T> right;
+    private int height;
 
     /**
      * Constructs a BSTNode with the given data.
@@ -45,6 +46,15 @@ public class BSTNode<T extends Comparable<? super T>> {
         return right;
     }
 
+    /**
+     * Gets the height.
+     *
+     * @return the height
+     */
+    int getHeight() {
+        return height;
+    }
+
     /**
      * Sets the data.
      *
@@ -71,4 +81,13 @@ public class BSTNode<T extends Comparable<? super T>> {
     void setRight(BSTNode<T> right) {
         this.right = right;
     }
-}
\ No newline at end of file
+
+    /**
+     * Sets the height.
+     *
+     * @param height the new height
+     */
+    void setHeight(int height) {
+        this.height = height;
+    }
+}
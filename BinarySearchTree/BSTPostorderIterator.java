@@ -0,0 +1,54 @@
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+
+/**
+ * Iterator that walks a BST in post-order using an explicit stack, so it
+ * uses no recursion and only holds the nodes on the current path.
+ *
+ * @author Sohum Gala
+ * @version 1.0
+ */
+public class BSTPostorderIterator<T extends Comparable<? super T>> implements Iterator<T> {
+
+    private final Deque<BSTNode<T>> stack;
+
+    /**
+     * Constructs a new BSTPostorderIterator.
+     * @param root the root of the tree to traverse
+     */
+    BSTPostorderIterator(BSTNode<T> root) {
+        stack = new ArrayDeque<>();
+        pushLeaf(root);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !stack.isEmpty();
+    }
+
+    @Override
+    public T next() {
+        if (stack.isEmpty()) {
+            throw new java.util.NoSuchElementException("traversal has no more data");
+        }
+        BSTNode<T> curr = stack.pop();
+        // if curr was a left child, its parent's right subtree is visited next
+        if (!stack.isEmpty() && stack.peek().getLeft() == curr) {
+            pushLeaf(stack.peek().getRight());
+        }
+        return curr.getData();
+    }
+
+    /**
+     * private helper method that pushes the path from a node down to the
+     * first node visited in its subtree, preferring left children
+     * @param curr the first node to push
+     */
+    private void pushLeaf(BSTNode<T> curr) {
+        while (curr != null) {
+            stack.push(curr);
+            curr = (curr.getLeft() != null) ? curr.getLeft() : curr.getRight();
+        }
+    }
+}
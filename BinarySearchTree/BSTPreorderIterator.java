@@ -0,0 +1,46 @@
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+
+/**
+ * Iterator that walks a BST in pre-order using an explicit stack, so it
+ * uses no recursion.
+ *
+ * @author Sohum Gala
+ * @version 1.0
+ */
+public class BSTPreorderIterator<T extends Comparable<? super T>> implements Iterator<T> {
+
+    private final Deque<BSTNode<T>> stack;
+
+    /**
+     * Constructs a new BSTPreorderIterator.
+     * @param root the root of the tree to traverse
+     */
+    BSTPreorderIterator(BSTNode<T> root) {
+        stack = new ArrayDeque<>();
+        if (root != null) {
+            stack.push(root);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !stack.isEmpty();
+    }
+
+    @Override
+    public T next() {
+        if (stack.isEmpty()) {
+            throw new java.util.NoSuchElementException("traversal has no more data");
+        }
+        BSTNode<T> curr = stack.pop();
+        if (curr.getRight() != null) {
+            stack.push(curr.getRight());
+        }
+        if (curr.getLeft() != null) {
+            stack.push(curr.getLeft());
+        }
+        return curr.getData();
+    }
+}
@@ -0,0 +1,84 @@
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator over a BST that splits on subtrees. Each spliterator covers
+ * an optional first data followed by one whole subtree, so a split hands the
+ * first data and the left subtree to the new spliterator and keeps the root
+ * and right subtree. Nodes do not cache subtree sizes, so each split guesses
+ * that the two halves are the same size.
+ *
+ * @author Sohum Gala
+ * @version 1.0
+ */
+public class BSTSpliterator<T extends Comparable<? super T>> implements Spliterator<T> {
+
+    private T first;
+    private BSTNode<T> subtree;
+    private long estimate;
+    private Iterator<T> iterator;
+
+    /**
+     * Constructs a new BSTSpliterator over first followed by the subtree.
+     * @param first    data that comes before the subtree, or null for none
+     * @param subtree  the root of the subtree to traverse
+     * @param estimate the estimated number of data covered
+     */
+    BSTSpliterator(T first, BSTNode<T> subtree, long estimate) {
+        this.first = first;
+        this.subtree = subtree;
+        this.estimate = estimate;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (action == null) {
+            throw new java.lang.NullPointerException("action cannot be null");
+        }
+        if (first != null) {
+            T data = first;
+            first = null;
+            action.accept(data);
+            return true;
+        }
+        if (iterator == null) {
+            iterator = new BSTInorderIterator<>(subtree);
+        }
+        if (!iterator.hasNext()) {
+            return false;
+        }
+        action.accept(iterator.next());
+        return true;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        if (iterator != null || subtree == null) {
+            return null;
+        }
+        long half = estimate / 2;
+        Spliterator<T> prefix = new BSTSpliterator<>(first, subtree.getLeft(),
+                (subtree.getLeft() == null) ? ((first == null) ? 0 : 1) : half);
+        first = subtree.getData();
+        subtree = subtree.getRight();
+        estimate = (subtree == null) ? 1 : estimate - half;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return estimate;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SORTED | DISTINCT | NONNULL;
+    }
+
+    @Override
+    public Comparator<? super T> getComparator() {
+        return null;
+    }
+}
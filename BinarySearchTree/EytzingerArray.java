@@ -0,0 +1,173 @@
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A read-only snapshot of sorted data laid out in Eytzinger (BFS) order: the
+ * root is at index 1 and the children of index i are at 2i and 2i + 1. The
+ * top levels of the tree sit next to each other in one array, so a search
+ * touches far fewer cache lines than walking the nodes of a BST or AVL, and
+ * the next index is computed from the comparison instead of loaded from a
+ * node.
+ *
+ * Build one from a BST or AVL by passing the tree itself, since both iterate
+ * in order.
+ *
+ * @author Sohum Gala
+ * @version 1.0
+ */
+public class EytzingerArray<T extends Comparable<? super T>> {
+
+    /**
+     * The number of searches getAll runs side by side.
+     */
+    public static final int BATCH_SIZE = 8;
+
+    private final T[] tree;
+    private final int size;
+    private final int levels;
+
+    /**
+     * Constructs a new EytzingerArray from data in strictly ascending order.
+     * @param sorted the data to copy, such as a BST or AVL
+     * @throws java.lang.IllegalArgumentException if sorted or any element in
+     *                                            sorted is null, or if the
+     *                                            data is not strictly
+     *                                            ascending
+     */
+    public EytzingerArray(Iterable<T> sorted) {
+        if (sorted == null) {
+            throw new java.lang.IllegalArgumentException("Cannot add null collection to data structure");
+        }
+        List<T> list = new ArrayList<>();
+        for (T datum : sorted) {
+            if (datum == null) {
+                throw new java.lang.IllegalArgumentException("Cannot add null data to data structure");
+            }
+            if (!list.isEmpty() && list.get(list.size() - 1).compareTo(datum) >= 0) {
+                throw new java.lang.IllegalArgumentException("data must be in strictly ascending order");
+            }
+            list.add(datum);
+        }
+        size = list.size();
+        levels = 32 - Integer.numberOfLeadingZeros(size);
+        @SuppressWarnings("unchecked")
+        T[] array = (T[]) new Comparable<?>[size + 1];
+        tree = array;
+        fill(list, 0, 1);
+    }
+
+    /**
+     * private helper method that copies sorted data into the subtree rooted
+     * at index with an in-order walk
+     * @param list the sorted data
+     * @param next the index in list of the next data to copy
+     * @param index the index of the subtree root in the array
+     * @return the index in list of the next data to copy after the subtree
+     */
+    private int fill(List<T> list, int next, int index) {
+        if (index <= size) {
+            next = fill(list, next, 2 * index);
+            tree[index] = list.get(next++);
+            next = fill(list, next, 2 * index + 1);
+        }
+        return next;
+    }
+
+    /**
+     * Returns the data matching the given parameter.
+     * @param data the data to search for
+     * @return the data in the array equal to the parameter
+     * @throws java.lang.IllegalArgumentException if data is null
+     * @throws java.util.NoSuchElementException   if the data is not in the
+     *                                            array
+     */
+    public T get(T data) {
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("cannot retrieve null data from data structure");
+        }
+        int index = lowerBound(data);
+        if (index == 0 || data.compareTo(tree[index]) != 0) {
+            throw new java.util.NoSuchElementException("could not find specified data in data structure");
+        }
+        return tree[index];
+    }
+
+    /**
+     * Returns whether or not data matching the given parameter is contained
+     * within the array.
+     * @param data the data to search for
+     * @return true if the parameter is contained within the array, false
+     * otherwise
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public boolean contains(T data) {
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("cannot search for null data in data structure");
+        }
+        int index = lowerBound(data);
+        return index != 0 && data.compareTo(tree[index]) == 0;
+    }
+
+    /**
+     * Looks up every key in a batch. Searches run BATCH_SIZE at a time, one
+     * level per round, so the memory loads of independent searches overlap
+     * instead of waiting on each other.
+     * @param keys the data to search for
+     * @return list where entry i is the data equal to keys.get(i), or null if
+     * it is not in the array
+     * @throws java.lang.IllegalArgumentException if keys or any key is null
+     */
+    public List<T> getAll(List<T> keys) {
+        if (keys == null) {
+            throw new java.lang.IllegalArgumentException("cannot search for null data in data structure");
+        }
+        List<T> found = new ArrayList<>(keys.size());
+        int[] index = new int[BATCH_SIZE];
+        for (int start = 0; start < keys.size(); start += BATCH_SIZE) {
+            int count = Math.min(BATCH_SIZE, keys.size() - start);
+            for (int j = 0; j < count; j++) {
+                if (keys.get(start + j) == null) {
+                    throw new java.lang.IllegalArgumentException("cannot search for null data in data structure");
+                }
+                index[j] = 1;
+            }
+            for (int level = 0; level < levels; level++) {
+                for (int j = 0; j < count; j++) {
+                    int i = index[j];
+                    if (i <= size) {
+                        index[j] = 2 * i + ((tree[i].compareTo(keys.get(start + j)) < 0) ? 1 : 0);
+                    }
+                }
+            }
+            for (int j = 0; j < count; j++) {
+                int i = index[j] >> (Integer.numberOfTrailingZeros(~index[j]) + 1);
+                found.add((i != 0 && keys.get(start + j).compareTo(tree[i]) == 0) ? tree[i] : null);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Returns the number of data in the array.
+     * @return the size of the array
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * private helper method that finds the smallest data not less than data
+     * @param data data to search for
+     * @return the index of the smallest data not less than data, or 0 if
+     * every data is less than it
+     */
+    private int lowerBound(T data) {
+        int index = 1;
+        while (index <= size) {
+            // the comparison picks the child without a data-dependent branch
+            index = 2 * index + ((tree[index].compareTo(data) < 0) ? 1 : 0);
+        }
+        // undo the right turns taken after the last left turn
+        return index >> (Integer.numberOfTrailingZeros(~index) + 1);
+    }
+}
@@ -0,0 +1,245 @@
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * My Splay Tree Implementation
+ *
+ * A self-adjusting BST. Every access splays the accessed node (or the last
+ * node on its search path) to the root, so frequently accessed data stays
+ * near the top. Operations are O(log n) amortized, and a workload that
+ * keeps hitting a small set of hot keys runs much faster than on a tree with
+ * a fixed shape. Splaying is done top-down, so no parent pointers or stack
+ * are needed.
+ *
+ * @author Sohum Gala
+ * @version 1.0
+ */
+public class SplayTree<T extends Comparable<? super T>> {
+
+    private SplayTreeNode<T> root;
+    private int size;
+
+    /**
+     * Constructs a new SplayTree.
+     */
+    public SplayTree() {
+
+    }
+
+    /**
+     * Constructs a new SplayTree.
+     *
+     * This constructor should initialize the SplayTree with the data in the
+     * Collection
+     * @param data the data to add
+     * @throws java.lang.IllegalArgumentException if data or any element in data
+     *                                            is null
+     */
+    public SplayTree(Collection<T> data) {
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("Cannot add null collection or collection containing "
+                    + "null data to data structure");
+        }
+        for (T datum : data) {
+            add(datum);
+        }
+    }
+
+    /**
+     * Adds the data to the tree. The added data becomes the root.
+     * @param data the data to add
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void add(T data) {
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("Cannot add null data to data structure");
+        }
+        if (root == null) {
+            root = new SplayTreeNode<>(data);
+            size++;
+            return;
+        }
+        root = splay(root, data);
+        int comparison = data.compareTo(root.getData());
+        if (comparison == 0) {
+            return;
+        }
+        SplayTreeNode<T> node = new SplayTreeNode<>(data);
+        if (comparison < 0) {
+            node.setLeft(root.getLeft());
+            node.setRight(root);
+            root.setLeft(null);
+        } else {
+            node.setRight(root.getRight());
+            node.setLeft(root);
+            root.setRight(null);
+        }
+        root = node;
+        size++;
+    }
+
+    /**
+     * Removes and returns the data from the tree matching the given parameter.
+     * @param data the data to remove
+     * @return the data that was removed
+     * @throws java.lang.IllegalArgumentException if data is null
+     * @throws java.util.NoSuchElementException   if the data is not in the tree
+     */
+    public T remove(T data) {
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("Cannot remove null data from data structure");
+        }
+        if (root != null) {
+            root = splay(root, data);
+        }
+        if (root == null || data.compareTo(root.getData()) != 0) {
+            throw new java.util.NoSuchElementException("Could not find specified data in data structure");
+        }
+        T removed = root.getData();
+        size--;
+        if (root.getLeft() == null) {
+            root = root.getRight();
+        } else {
+            // every data in the left subtree is smaller, so splaying for data
+            // brings its maximum to the top, leaving no right child
+            SplayTreeNode<T> right = root.getRight();
+            root = splay(root.getLeft(), data);
+            root.setRight(right);
+        }
+        return removed;
+    }
+
+    /**
+     * Returns the data from the tree matching the given parameter. The found
+     * data becomes the root.
+     * @param data the data to search for
+     * @return the data in the tree equal to the parameter
+     * @throws java.lang.IllegalArgumentException if data is null
+     * @throws java.util.NoSuchElementException   if the data is not in the tree
+     */
+    public T get(T data) {
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("cannot retrieve null data from data structure");
+        }
+        if (!contains(data)) {
+            throw new java.util.NoSuchElementException("could not find specified data in data structure");
+        }
+        return root.getData();
+    }
+
+    /**
+     * Returns whether or not data matching the given parameter is contained
+     * within the tree. The last node on the search path becomes the root.
+     * @param data the data to search for
+     * @return true if the parameter is contained within the tree, false
+     * otherwise
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public boolean contains(T data) {
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("cannot search for null data in data structure");
+        }
+        if (root == null) {
+            return false;
+        }
+        root = splay(root, data);
+        return data.compareTo(root.getData()) == 0;
+    }
+
+    /**
+     * Returns the data of the tree in order. Unlike get and contains, this
+     * does not splay the tree.
+     * @return the data of the tree, least to greatest
+     */
+    public List<T> inorder() {
+        return TreeTraversals.inorder(root, size, SplayTreeNode::getLeft,
+                SplayTreeNode::getRight, SplayTreeNode::getData);
+    }
+
+    /**
+     * Returns the k largest data of the tree, least to greatest. The tree is
+     * not splayed.
+     * @param k the number of data to return
+     * @return the k largest data of the tree
+     * @throws java.lang.IllegalArgumentException if k < 0 or k > size()
+     */
+    public List<T> kLargest(int k) {
+        return TreeTraversals.kLargest(root, size, k, SplayTreeNode::getLeft,
+                SplayTreeNode::getRight, SplayTreeNode::getData);
+    }
+
+    /**
+     * Returns the number of data in the tree.
+     * @return the size of the tree
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Clears the tree.
+     */
+    public void clear() {
+        size = 0;
+        root = null;
+    }
+
+    /**
+     * private helper method that splays the subtree top-down, bringing the
+     * node holding data, or the last node on its search path, to the top
+     * @param curr the root of the subtree, which must not be null
+     * @param data data to search for
+     * @return the new root of the subtree
+     */
+    private SplayTreeNode<T> splay(SplayTreeNode<T> curr, T data) {
+        // dummy collects the left tree on its right and the right tree on its left
+        SplayTreeNode<T> dummy = new SplayTreeNode<>(null);
+        SplayTreeNode<T> leftMax = dummy;
+        SplayTreeNode<T> rightMin = dummy;
+        while (true) {
+            int comparison = data.compareTo(curr.getData());
+            if (comparison < 0) {
+                if (curr.getLeft() == null) {
+                    break;
+                }
+                if (data.compareTo(curr.getLeft().getData()) < 0) {
+                    // zig-zig: rotate right before linking
+                    SplayTreeNode<T> child = curr.getLeft();
+                    curr.setLeft(child.getRight());
+                    child.setRight(curr);
+                    curr = child;
+                    if (curr.getLeft() == null) {
+                        break;
+                    }
+                }
+                rightMin.setLeft(curr);
+                rightMin = curr;
+                curr = curr.getLeft();
+            } else if (comparison > 0) {
+                if (curr.getRight() == null) {
+                    break;
+                }
+                if (data.compareTo(curr.getRight().getData()) > 0) {
+                    // zig-zig: rotate left before linking
+                    SplayTreeNode<T> child = curr.getRight();
+                    curr.setRight(child.getLeft());
+                    child.setLeft(curr);
+                    curr = child;
+                    if (curr.getRight() == null) {
+                        break;
+                    }
+                }
+                leftMax.setRight(curr);
+                leftMax = curr;
+                curr = curr.getRight();
+            } else {
+                break;
+            }
+        }
+        leftMax.setRight(curr.getLeft());
+        rightMin.setLeft(curr.getRight());
+        curr.setLeft(dummy.getRight());
+        curr.setRight(dummy.getLeft());
+        return curr;
+    }
+}
@@ -0,0 +1,66 @@
+/**
+ * Node class used for implementing the SplayTree.
+ *
+ * @author Sohum Gala
+ * @version 1.0
+ */
+public class SplayTreeNode<T extends Comparable<? super T>> {
+
+    private T data;
+    private SplayTreeNode<T> left;
+    private SplayTreeNode<T> right;
+
+    /**
+     * Constructs a SplayTreeNode with the given data.
+     *
+     * @param data the data stored in the new node
+     */
+    SplayTreeNode(T data) {
+        this.data = data;
+    }
+
+    /**
+     * Gets the data.
+     *
+     * @return the data
+     */
+    T getData() {
+        return data;
+    }
+
+    /**
+     * Gets the left child.
+     *
+     * @return the left child
+     */
+    SplayTreeNode<T> getLeft() {
+        return left;
+    }
+
+    /**
+     * Gets the right child.
+     *
+     * @return the right child
+     */
+    SplayTreeNode<T> getRight() {
+        return right;
+    }
+
+    /**
+     * Sets the left child.
+     *
+     * @param left the new left child
+     */
+    void setLeft(SplayTreeNode<T> left) {
+        this.left = left;
+    }
+
+    /**
+     * Sets the right child.
+     *
+     * @param right the new right child
+     */
+    void setRight(SplayTreeNode<T> right) {
+        this.right = right;
+    }
+}
@@ -0,0 +1,252 @@
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * My Treap Implementation
+ *
+ * A randomized BST. Every node gets a random priority, and the tree is kept
+ * in heap order on those priorities with rotations. The shape is the same
+ * as if the data had been added in random order, so the expected height is
+ * O(log n) no matter what order the data arrives in.
+ *
+ * @author Sohum Gala
+ * @version 1.0
+ */
+public class Treap<T extends Comparable<? super T>> {
+
+    private TreapNode<T> root;
+    private int size;
+
+    /**
+     * Constructs a new Treap.
+     */
+    public Treap() {
+
+    }
+
+    /**
+     * Constructs a new Treap.
+     *
+     * This constructor should initialize the Treap with the data in the
+     * Collection
+     * @param data the data to add
+     * @throws java.lang.IllegalArgumentException if data or any element in data
+     *                                            is null
+     */
+    public Treap(Collection<T> data) {
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("Cannot add null collection or collection containing "
+                    + "null data to data structure");
+        }
+        for (T datum : data) {
+            add(datum);
+        }
+    }
+
+    /**
+     * Adds the data to the tree.
+     * @param data the data to add
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void add(T data) {
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("Cannot add null data to data structure");
+        }
+        root = addHelper(root, data);
+    }
+
+    /**
+     * Helper method for add(T data)
+     * @param curr the current node being traversed
+     * @param data the data to be added
+     * @return the root of the subtree after the add
+     */
+    private TreapNode<T> addHelper(TreapNode<T> curr, T data) {
+        if (curr == null) {
+            size++;
+            return new TreapNode<>(data, ThreadLocalRandom.current().nextInt());
+        }
+        int comparison = data.compareTo(curr.getData());
+        if (comparison < 0) {
+            curr.setLeft(addHelper(curr.getLeft(), data));
+            if (curr.getLeft().getPriority() > curr.getPriority()) {
+                return rotateRight(curr);
+            }
+        } else if (comparison > 0) {
+            curr.setRight(addHelper(curr.getRight(), data));
+            if (curr.getRight().getPriority() > curr.getPriority()) {
+                return rotateLeft(curr);
+            }
+        }
+        return curr;
+    }
+
+    /**
+     * Removes and returns the data from the tree matching the given parameter.
+     * @param data the data to remove
+     * @return the data that was removed
+     * @throws java.lang.IllegalArgumentException if data is null
+     * @throws java.util.NoSuchElementException   if the data is not in the tree
+     */
+    public T remove(T data) {
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("Cannot remove null data from data structure");
+        }
+        TreapNode<T> dummy = new TreapNode<>(null, 0);
+        root = removeHelper(root, data, dummy);
+        return dummy.getData();
+    }
+
+    /**
+     * Helper method for remove(T data)
+     * @param curr the current node being traversed
+     * @param data the data being removed
+     * @param dummy node that contains copy of data from node to be removed
+     * @return the root of the subtree after the removal
+     */
+    private TreapNode<T> removeHelper(TreapNode<T> curr, T data, TreapNode<T> dummy) {
+        if (curr == null) {
+            throw new java.util.NoSuchElementException("Could not find specified data in data structure");
+        }
+        int comparison = data.compareTo(curr.getData());
+        if (comparison < 0) {
+            curr.setLeft(removeHelper(curr.getLeft(), data, dummy));
+            return curr;
+        } else if (comparison > 0) {
+            curr.setRight(removeHelper(curr.getRight(), data, dummy));
+            return curr;
+        }
+        dummy.setData(curr.getData());
+        size--;
+        return mergeChildren(curr.getLeft(), curr.getRight());
+    }
+
+    /**
+     * private helper method that merges the two subtrees of a removed node,
+     * keeping whichever root has the larger priority on top
+     * @param left the left subtree, all smaller than right
+     * @param right the right subtree
+     * @return the root of the merged subtree
+     */
+    private TreapNode<T> mergeChildren(TreapNode<T> left, TreapNode<T> right) {
+        if (left == null) {
+            return right;
+        } else if (right == null) {
+            return left;
+        } else if (left.getPriority() > right.getPriority()) {
+            left.setRight(mergeChildren(left.getRight(), right));
+            return left;
+        }
+        right.setLeft(mergeChildren(left, right.getLeft()));
+        return right;
+    }
+
+    /**
+     * Returns the data from the tree matching the given parameter.
+     * @param data the data to search for
+     * @return the data in the tree equal to the parameter
+     * @throws java.lang.IllegalArgumentException if data is null
+     * @throws java.util.NoSuchElementException   if the data is not in the tree
+     */
+    public T get(T data) {
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("cannot retrieve null data from data structure");
+        }
+        TreapNode<T> curr = find(data);
+        if (curr == null) {
+            throw new java.util.NoSuchElementException("could not find specified data in data structure");
+        }
+        return curr.getData();
+    }
+
+    /**
+     * Returns whether or not data matching the given parameter is contained
+     * within the tree.
+     * @param data the data to search for
+     * @return true if the parameter is contained within the tree, false
+     * otherwise
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public boolean contains(T data) {
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("cannot search for null data in data structure");
+        }
+        return find(data) != null;
+    }
+
+    /**
+     * Returns the data of the tree in order.
+     * @return the data of the tree, least to greatest
+     */
+    public List<T> inorder() {
+        return TreeTraversals.inorder(root, size, TreapNode::getLeft, TreapNode::getRight, TreapNode::getData);
+    }
+
+    /**
+     * Returns the k largest data of the tree, least to greatest.
+     * @param k the number of data to return
+     * @return the k largest data of the tree
+     * @throws java.lang.IllegalArgumentException if k < 0 or k > size()
+     */
+    public List<T> kLargest(int k) {
+        return TreeTraversals.kLargest(root, size, k, TreapNode::getLeft, TreapNode::getRight, TreapNode::getData);
+    }
+
+    /**
+     * Returns the number of data in the tree.
+     * @return the size of the tree
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Clears the tree.
+     */
+    public void clear() {
+        size = 0;
+        root = null;
+    }
+
+    /**
+     * private helper method that finds the node holding data
+     * @param data data to search for
+     * @return the node holding data, or null if it is not in the tree
+     */
+    private TreapNode<T> find(T data) {
+        TreapNode<T> curr = root;
+        while (curr != null) {
+            int comparison = data.compareTo(curr.getData());
+            if (comparison == 0) {
+                return curr;
+            }
+            curr = (comparison < 0) ? curr.getLeft() : curr.getRight();
+        }
+        return null;
+    }
+
+    /**
+     * private helper method that rotates a subtree to the right
+     * @param curr the root of the subtree
+     * @return the new root of the subtree
+     */
+    private TreapNode<T> rotateRight(TreapNode<T> curr) {
+        TreapNode<T> left = curr.getLeft();
+        curr.setLeft(left.getRight());
+        left.setRight(curr);
+        return left;
+    }
+
+    /**
+     * private helper method that rotates a subtree to the left
+     * @param curr the root of the subtree
+     * @return the new root of the subtree
+     */
+    private TreapNode<T> rotateLeft(TreapNode<T> curr) {
+        TreapNode<T> right = curr.getRight();
+        curr.setRight(right.getLeft());
+        right.setLeft(curr);
+        return right;
+    }
+}
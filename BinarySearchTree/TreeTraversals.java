@@ -0,0 +1,87 @@
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Stack-based walks shared by the trees in this folder. Each walk is given
+ * the accessors of the tree's node class, so BST, SplayTree, and Treap use
+ * the same code without sharing a node type.
+ *
+ * @author Sohum Gala
+ * @version 1.0
+ */
+final class TreeTraversals {
+
+    /**
+     * Not meant to be instantiated.
+     */
+    private TreeTraversals() {
+
+    }
+
+    /**
+     * Walks a tree in-order without recursion.
+     * @param <N>   node type of the tree
+     * @param <T>   data type stored in the tree
+     * @param root  the root of the tree, or null if it is empty
+     * @param size  the number of data in the tree
+     * @param left  returns the left child of a node
+     * @param right returns the right child of a node
+     * @param data  returns the data in a node
+     * @return the data of the tree in order
+     */
+    static <N, T> List<T> inorder(N root, int size, Function<N, N> left, Function<N, N> right,
+                                  Function<N, T> data) {
+        List<T> traversal = new ArrayList<>(size);
+        Deque<N> stack = new ArrayDeque<>();
+        N curr = root;
+        while (curr != null || !stack.isEmpty()) {
+            while (curr != null) {
+                stack.push(curr);
+                curr = left.apply(curr);
+            }
+            curr = stack.pop();
+            traversal.add(data.apply(curr));
+            curr = right.apply(curr);
+        }
+        return traversal;
+    }
+
+    /**
+     * Finds the k largest data of a tree with a reverse in-order walk that
+     * stops after k nodes.
+     * @param <N>   node type of the tree
+     * @param <T>   data type stored in the tree
+     * @param root  the root of the tree, or null if it is empty
+     * @param size  the number of data in the tree
+     * @param k     the number of largest data to return
+     * @param left  returns the left child of a node
+     * @param right returns the right child of a node
+     * @param data  returns the data in a node
+     * @return the k largest data, least to greatest
+     * @throws java.lang.IllegalArgumentException if k < 0 or k > size
+     */
+    static <N, T> List<T> kLargest(N root, int size, int k, Function<N, N> left, Function<N, N> right,
+                                   Function<N, T> data) {
+        if (k > size || k < 0) {
+            throw new java.lang.IllegalArgumentException("input should be between 0 and " + size);
+        }
+        List<T> largest = new ArrayList<>(k);
+        Deque<N> stack = new ArrayDeque<>();
+        N curr = root;
+        while (largest.size() < k && (curr != null || !stack.isEmpty())) {
+            while (curr != null) {
+                stack.push(curr);
+                curr = right.apply(curr);
+            }
+            curr = stack.pop();
+            largest.add(data.apply(curr));
+            curr = left.apply(curr);
+        }
+        Collections.reverse(largest);
+        return largest;
+    }
+}
@@ -1,3 +1,13 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -21,6 +31,16 @@ public class LinearProbingHashMap<K, V> {
      * The max load factor of the LinearProbingHashMap
      */
     public static final double MAX_LOAD_FACTOR = 0.67;
+
+    /**
+     * Magic number written at the start of every snapshot file.
+     */
+    private static final int SNAPSHOT_MAGIC = 0x4C50484D;
+
+    /**
+     * Size of the buffer used when streaming a snapshot to or from disk.
+     */
+    private static final int SNAPSHOT_BUFFER_SIZE = 1 << 16;
     private LinearProbingMapEntry<K, V>[] table;
     private int size;
 
@@ -256,6 +276,93 @@ public class LinearProbingHashMap<K, V> {
         table = temp;
     }
 
+    /**
+     * Writes every entry in the map to a snapshot file at path, replacing
+     * any file already there. The snapshot stores the number of entries
+     * followed by each key and value as written by the codecs.
+     * @param path       the file to write the snapshot to
+     * @param keyCodec   the codec used to write the keys
+     * @param valueCodec the codec used to write the values
+     * @throws java.lang.IllegalArgumentException if any input is null
+     * @throws java.io.IOException                if the file could not be
+     *                                            written
+     */
+    public void writeTo(Path path, LinearProbingMapCodec<K> keyCodec,
+                        LinearProbingMapCodec<V> valueCodec) throws IOException {
+        if (path == null || keyCodec == null || valueCodec == null) {
+            throw new java.lang.IllegalArgumentException("path and codecs cannot be null");
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+             DataOutputStream out = new DataOutputStream(
+                     new BufferedOutputStream(Channels.newOutputStream(channel), SNAPSHOT_BUFFER_SIZE))) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(size);
+            int written = 0;
+            for (int i = 0; i < table.length && written < size; i++) {
+                if (table[i] != null && !table[i].isRemoved()) {
+                    keyCodec.write(table[i].getKey(), out);
+                    valueCodec.write(table[i].getValue(), out);
+                    written++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads a snapshot file written by writeTo into a new map. The backing
+     * table is sized for every entry up front, so no resizing happens while
+     * the entries are loaded. The entry count is checked against the size of
+     * the file first, so a corrupt count cannot allocate a huge table.
+     * @param <K>        the type of the keys
+     * @param <V>        the type of the values
+     * @param path       the snapshot file to read
+     * @param keyCodec   the codec used to read the keys
+     * @param valueCodec the codec used to read the values
+     * @return a new map containing every entry in the snapshot
+     * @throws java.lang.IllegalArgumentException if any input is null
+     * @throws java.io.IOException                if the file could not be read
+     *                                            or is not a valid snapshot
+     */
+    public static <K, V> LinearProbingHashMap<K, V> readFrom(Path path, LinearProbingMapCodec<K> keyCodec,
+                                                          LinearProbingMapCodec<V> valueCodec) throws IOException {
+        if (path == null || keyCodec == null || valueCodec == null) {
+            throw new java.lang.IllegalArgumentException("path and codecs cannot be null");
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+             DataInputStream in = new DataInputStream(
+                     new BufferedInputStream(Channels.newInputStream(channel), SNAPSHOT_BUFFER_SIZE))) {
+            if (in.readInt() != SNAPSHOT_MAGIC) {
+                throw new IOException("file is not a LinearProbingHashMap snapshot");
+            }
+            int count = in.readInt();
+            if (count < 0) {
+                throw new IOException("snapshot has a negative entry count");
+            }
+            // keys are distinct, so at most one entry can be written in zero bytes
+            long remaining = channel.size() - 2 * Integer.BYTES;
+            if (count - 1L > remaining) {
+                throw new IOException("snapshot entry count is larger than the file can hold");
+            }
+            long capacity = Math.max(INITIAL_CAPACITY, (long) Math.ceil(count / MAX_LOAD_FACTOR) + 1);
+            if (capacity > Integer.MAX_VALUE - 8) {
+                throw new IOException("snapshot has too many entries to load");
+            }
+            LinearProbingHashMap<K, V> map = new LinearProbingHashMap<>((int) capacity);
+            for (int i = 0; i < count; i++) {
+                K key = keyCodec.read(in);
+                V value = valueCodec.read(in);
+                if (key == null || value == null) {
+                    throw new IOException("snapshot contains null data");
+                }
+                map.put(key, value);
+            }
+            return map;
+        } catch (EOFException e) {
+            throw new IOException("snapshot ended before all entries were read", e);
+        }
+    }
+
     /**
      * Clears the map.
      */
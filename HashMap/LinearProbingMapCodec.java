@@ -0,0 +1,76 @@
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Codec used by the LinearProbingHashMap to write keys and values to a
+ * snapshot file and read them back.
+ *
+ * @param <T> the type of data the codec handles
+ * @author Sohum Gala
+ * @version 1.0
+ */
+public interface LinearProbingMapCodec<T> {
+
+    /**
+     * Codec for Integer data, stored as 4 bytes.
+     */
+    LinearProbingMapCodec<Integer> INTEGER = new LinearProbingMapCodec<Integer>() {
+        @Override
+        public void write(Integer data, DataOutput out) throws IOException {
+            out.writeInt(data);
+        }
+
+        @Override
+        public Integer read(DataInput in) throws IOException {
+            return in.readInt();
+        }
+    };
+
+    /**
+     * Codec for Long data, stored as 8 bytes.
+     */
+    LinearProbingMapCodec<Long> LONG = new LinearProbingMapCodec<Long>() {
+        @Override
+        public void write(Long data, DataOutput out) throws IOException {
+            out.writeLong(data);
+        }
+
+        @Override
+        public Long read(DataInput in) throws IOException {
+            return in.readLong();
+        }
+    };
+
+    /**
+     * Codec for String data, stored as modified UTF-8 with a 2 byte length
+     * prefix.
+     */
+    LinearProbingMapCodec<String> STRING = new LinearProbingMapCodec<String>() {
+        @Override
+        public void write(String data, DataOutput out) throws IOException {
+            out.writeUTF(data);
+        }
+
+        @Override
+        public String read(DataInput in) throws IOException {
+            return in.readUTF();
+        }
+    };
+
+    /**
+     * Writes the data to the output.
+     * @param data the data to write, never null
+     * @param out  the output to write to
+     * @throws java.io.IOException if the data could not be written
+     */
+    void write(T data, DataOutput out) throws IOException;
+
+    /**
+     * Reads the next piece of data from the input.
+     * @param in the input to read from
+     * @return the data that was read
+     * @throws java.io.IOException if the data could not be read
+     */
+    T read(DataInput in) throws IOException;
+}
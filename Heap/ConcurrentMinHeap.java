@@ -0,0 +1,98 @@
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread-safe MinHeap with strict ordering. Data is kept in a lock-free
+ * skip list, so any number of threads can add and remove at once without
+ * sharing a lock. remove always returns the smallest data in the heap at
+ * the time it runs.
+ *
+ * For schedulers that can tolerate data leaving slightly out of order, the
+ * MultiQueueMinHeap scales further.
+ *
+ * @author Sohum Gala
+ * @version 1.0
+ */
+public class ConcurrentMinHeap<T extends Comparable<? super T>> {
+
+    private final ConcurrentSkipListMap<ConcurrentMinHeapEntry<T>, Boolean> skipList;
+    private final AtomicLong sequence;
+    private final AtomicInteger size;
+
+    /**
+     * Constructs a new ConcurrentMinHeap.
+     */
+    public ConcurrentMinHeap() {
+        skipList = new ConcurrentSkipListMap<>();
+        sequence = new AtomicLong();
+        size = new AtomicInteger();
+    }
+
+    /**
+     * Adds an item to the heap.
+     * @param data the data to add
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void add(T data) {
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("cannot add null data to data structure");
+        }
+        skipList.put(new ConcurrentMinHeapEntry<>(data, sequence.getAndIncrement()), Boolean.TRUE);
+        size.incrementAndGet();
+    }
+
+    /**
+     * Removes and returns the min item of the heap.
+     * @return the data that was removed
+     * @throws java.util.NoSuchElementException if the heap is empty
+     */
+    public T remove() {
+        Map.Entry<ConcurrentMinHeapEntry<T>, Boolean> entry = skipList.pollFirstEntry();
+        if (entry == null) {
+            throw new java.util.NoSuchElementException("cannot remove data from empty data structure");
+        }
+        size.decrementAndGet();
+        return entry.getKey().getData();
+    }
+
+    /**
+     * Returns the minimum element in the heap.
+     * @return the minimum element
+     * @throws java.util.NoSuchElementException if the heap is empty
+     */
+    public T getMin() {
+        Map.Entry<ConcurrentMinHeapEntry<T>, Boolean> entry = skipList.firstEntry();
+        if (entry == null) {
+            throw new java.util.NoSuchElementException("cannot retrieve data from empty data structure");
+        }
+        return entry.getKey().getData();
+    }
+
+    /**
+     * Returns the number of elements in the heap. The count may be stale if
+     * other threads are adding or removing at the same time.
+     * @return the size of the heap
+     */
+    public int size() {
+        return Math.max(size.get(), 0);
+    }
+
+    /**
+     * Returns whether or not the heap is empty.
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return skipList.isEmpty();
+    }
+
+    /**
+     * Clears the heap.
+     */
+    public void clear() {
+        while (skipList.pollFirstEntry() != null) {
+            size.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/**
+ * Entry class used for implementing the ConcurrentMinHeap. Each entry
+ * carries a sequence number so that equal data can be stored more than once
+ * and leaves the heap in the order it was added.
+ *
+ * @author Sohum Gala
+ * @version 1.0
+ */
+public class ConcurrentMinHeapEntry<T extends Comparable<? super T>>
+    implements Comparable<ConcurrentMinHeapEntry<T>> {
+
+    private final T data;
+    private final long sequence;
+
+    /**
+     * Constructs a new ConcurrentMinHeapEntry.
+     * @param data     the data stored in the entry
+     * @param sequence the number used to order entries with equal data
+     */
+    ConcurrentMinHeapEntry(T data, long sequence) {
+        this.data = data;
+        this.sequence = sequence;
+    }
+
+    /**
+     * Gets the data.
+     * @return the data
+     */
+    T getData() {
+        return data;
+    }
+
+    @Override
+    public int compareTo(ConcurrentMinHeapEntry<T> other) {
+        int comparison = data.compareTo(other.data);
+        return (comparison != 0) ? comparison : Long.compare(sequence, other.sequence);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof ConcurrentMinHeapEntry)) {
+            return false;
+        }
+        ConcurrentMinHeapEntry<?> that = (ConcurrentMinHeapEntry<?>) o;
+        return sequence == that.sequence && data.equals(that.data);
+    }
+
+    @Override
+    public int hashCode() {
+        return data.hashCode() ^ Long.hashCode(sequence);
+    }
+}
@@ -0,0 +1,235 @@
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Implementation of an indexed MinHeap. The heap keeps track of the index
+ * of every element in the backing array, so elements can be found, removed,
+ * and have their priority decreased without searching the heap.
+ *
+ * Elements are tracked using equals and hashCode, so the heap cannot hold
+ * two equal elements at once.
+ *
+ * @author Sohum Gala
+ * @version 1.0
+ */
+public class IndexedMinHeap<T extends Comparable<? super T>> {
+
+    /**
+     * The initial capacity of the IndexedMinHeap when created with the
+     * default constructor.
+     */
+    public static final int INITIAL_CAPACITY = 13;
+
+    private T[] backingArray;
+    private Map<T, Integer> indices;
+    private int size;
+
+    /**
+     * Constructs a new IndexedMinHeap.
+     */
+    public IndexedMinHeap() {
+        backingArray = (T[]) new Comparable[INITIAL_CAPACITY];
+        indices = new HashMap<>();
+    }
+
+    /**
+     * Adds an item to the heap.
+     * @param data the data to add
+     * @throws java.lang.IllegalArgumentException if data is null or already
+     *                                            in the heap
+     */
+    public void add(T data) {
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("cannot add null data to data structure");
+        }
+        if (indices.containsKey(data)) {
+            throw new java.lang.IllegalArgumentException("cannot add duplicate data to data structure");
+        }
+        if (size + 1 == backingArray.length) {
+            T[] temp = (T[]) new Comparable[backingArray.length * 2];
+            for (int i = 1; i <= size; i++) {
+                temp[i] = backingArray[i];
+            }
+            backingArray = temp;
+        }
+        size++;
+        backingArray[size] = data;
+        indices.put(data, size);
+        upHeap(size);
+    }
+
+    /**
+     * Removes and returns the min item of the heap.
+     * @return the data that was removed
+     * @throws java.util.NoSuchElementException if the heap is empty
+     */
+    public T remove() {
+        if (size == 0) {
+            throw new java.util.NoSuchElementException("cannot remove data from empty data structure");
+        }
+        return removeAt(1);
+    }
+
+    /**
+     * Removes and returns the item in the heap equal to data.
+     * @param data the data to remove
+     * @return the data that was removed
+     * @throws java.lang.IllegalArgumentException if data is null
+     * @throws java.util.NoSuchElementException   if data is not in the heap
+     */
+    public T remove(T data) {
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("cannot remove null data from data structure");
+        }
+        Integer index = indices.get(data);
+        if (index == null) {
+            throw new java.util.NoSuchElementException("element was not found in the data structure");
+        }
+        return removeAt(index);
+    }
+
+    /**
+     * Replaces oldData with newData, which must be less than or equal to
+     * oldData, and moves it up the heap to its new position.
+     * @param oldData the data currently in the heap
+     * @param newData the data to replace it with
+     * @throws java.lang.IllegalArgumentException if either input is null,
+     *                                            newData is greater than
+     *                                            oldData, or newData is
+     *                                            already in the heap
+     * @throws java.util.NoSuchElementException   if oldData is not in the
+     *                                            heap
+     */
+    public void decreaseKey(T oldData, T newData) {
+        if (oldData == null || newData == null) {
+            throw new java.lang.IllegalArgumentException("cannot decrease key using null data");
+        }
+        Integer index = indices.get(oldData);
+        if (index == null) {
+            throw new java.util.NoSuchElementException("element was not found in the data structure");
+        }
+        if (newData.compareTo(backingArray[index]) > 0) {
+            throw new java.lang.IllegalArgumentException("new data cannot be greater than the old data");
+        }
+        if (!newData.equals(oldData) && indices.containsKey(newData)) {
+            throw new java.lang.IllegalArgumentException("cannot add duplicate data to data structure");
+        }
+        indices.remove(oldData);
+        backingArray[index] = newData;
+        indices.put(newData, index);
+        upHeap(index);
+    }
+
+    /**
+     * Returns whether or not data is in the heap.
+     * @param data the data to search for
+     * @return true if data is in the heap, false otherwise
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public boolean contains(T data) {
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("cannot search for null data in data structure");
+        }
+        return indices.containsKey(data);
+    }
+
+    /**
+     * Returns the minimum element in the heap.
+     * @return the minimum element
+     * @throws java.util.NoSuchElementException if the heap is empty
+     */
+    public T getMin() {
+        if (size == 0) {
+            throw new java.util.NoSuchElementException("cannot retrieve data from empty data structure");
+        }
+        return backingArray[1];
+    }
+
+    /**
+     * Returns the number of elements in the heap.
+     * @return the size of the heap
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether or not the heap is empty.
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Clears the heap.
+     * Resets the backing array to a new array of the initial capacity and
+     * resets the size.
+     */
+    public void clear() {
+        size = 0;
+        backingArray = (T[]) new Comparable[INITIAL_CAPACITY];
+        indices.clear();
+    }
+
+    /**
+     * private helper method that removes the data at index and restores the
+     * heap property
+     * @param index index of the data to remove
+     * @return the data that was removed
+     */
+    private T removeAt(int index) {
+        T stored = backingArray[index];
+        indices.remove(stored);
+        T last = backingArray[size];
+        backingArray[size] = null;
+        size--;
+        if (index <= size) {
+            backingArray[index] = last;
+            indices.put(last, index);
+            if (index > 1 && last.compareTo(backingArray[index / 2]) < 0) {
+                upHeap(index);
+            } else {
+                downHeap(index);
+            }
+        }
+        return stored;
+    }
+
+    /**
+     * private helper method that moves the data at index up the heap
+     * @param index index of the data to move
+     */
+    private void upHeap(int index) {
+        T data = backingArray[index];
+        while (index > 1 && data.compareTo(backingArray[index / 2]) < 0) {
+            backingArray[index] = backingArray[index / 2];
+            indices.put(backingArray[index], index);
+            index /= 2;
+        }
+        backingArray[index] = data;
+        indices.put(data, index);
+    }
+
+    /**
+     * private helper method that moves the data at index down the heap
+     * @param index index of the data to move
+     */
+    private void downHeap(int index) {
+        T data = backingArray[index];
+        while (2 * index <= size) {
+            int child = 2 * index;
+            if (child < size && backingArray[child + 1].compareTo(backingArray[child]) < 0) {
+                child++;
+            }
+            if (data.compareTo(backingArray[child]) <= 0) {
+                break;
+            }
+            backingArray[index] = backingArray[child];
+            indices.put(backingArray[index], index);
+            index = child;
+        }
+        backingArray[index] = data;
+        indices.put(data, index);
+    }
+}
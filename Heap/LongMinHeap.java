@@ -0,0 +1,187 @@
+import java.util.function.LongConsumer;
+
+/**
+ * Implementation of a MinHeap keyed on primitive longs, where every key
+ * carries a long value alongside it. Keys and values are stored in parallel
+ * arrays, so adding and removing never allocate unless the arrays need to
+ * grow. Useful for timers, where the key is a deadline and the value is a
+ * task id.
+ *
+ * @author Sohum Gala
+ * @version 1.0
+ */
+public class LongMinHeap {
+
+    /**
+     * The initial capacity of the LongMinHeap when created with the default
+     * constructor.
+     */
+    public static final int INITIAL_CAPACITY = 13;
+
+    private long[] keys;
+    private long[] values;
+    private int size;
+
+    /**
+     * Constructs a new LongMinHeap.
+     */
+    public LongMinHeap() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Constructs a new LongMinHeap that can hold initialCapacity entries
+     * before growing.
+     * @param initialCapacity the number of entries to make room for
+     * @throws java.lang.IllegalArgumentException if initialCapacity is
+     *                                            negative
+     */
+    public LongMinHeap(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new java.lang.IllegalArgumentException("initial capacity cannot be negative");
+        }
+        keys = new long[initialCapacity + 1];
+        values = new long[initialCapacity + 1];
+    }
+
+    /**
+     * Adds an entry to the heap.
+     * @param key   the key the heap is ordered by
+     * @param value the value stored with the key
+     */
+    public void add(long key, long value) {
+        if (size + 1 == keys.length) {
+            int length = Math.max(keys.length * 2, 2);
+            long[] tempKeys = new long[length];
+            long[] tempValues = new long[length];
+            System.arraycopy(keys, 1, tempKeys, 1, size);
+            System.arraycopy(values, 1, tempValues, 1, size);
+            keys = tempKeys;
+            values = tempValues;
+        }
+        size++;
+        // let n represent the index of the hole moving up the heap
+        int n = size;
+        while (n > 1 && key < keys[n / 2]) {
+            keys[n] = keys[n / 2];
+            values[n] = values[n / 2];
+            n /= 2;
+        }
+        keys[n] = key;
+        values[n] = value;
+    }
+
+    /**
+     * Removes the entry with the smallest key and returns its value.
+     * @return the value of the entry that was removed
+     * @throws java.util.NoSuchElementException if the heap is empty
+     */
+    public long remove() {
+        if (size == 0) {
+            throw new java.util.NoSuchElementException("cannot remove data from empty data structure");
+        }
+        long stored = values[1];
+        removeMin();
+        return stored;
+    }
+
+    /**
+     * Removes every entry with a key less than deadline in key order,
+     * passing each value to action.
+     * @param deadline entries with keys less than this are removed
+     * @param action   the action to run on each removed value
+     * @return the number of entries removed
+     * @throws java.lang.IllegalArgumentException if action is null
+     */
+    public int removeAllBefore(long deadline, LongConsumer action) {
+        if (action == null) {
+            throw new java.lang.IllegalArgumentException("action cannot be null");
+        }
+        int removed = 0;
+        while (size > 0 && keys[1] < deadline) {
+            long value = values[1];
+            removeMin();
+            action.accept(value);
+            removed++;
+        }
+        return removed;
+    }
+
+    /**
+     * Returns the smallest key in the heap.
+     * @return the minimum key
+     * @throws java.util.NoSuchElementException if the heap is empty
+     */
+    public long getMinKey() {
+        if (size == 0) {
+            throw new java.util.NoSuchElementException("cannot retrieve data from empty data structure");
+        }
+        return keys[1];
+    }
+
+    /**
+     * Returns the value stored with the smallest key in the heap.
+     * @return the value of the minimum entry
+     * @throws java.util.NoSuchElementException if the heap is empty
+     */
+    public long getMinValue() {
+        if (size == 0) {
+            throw new java.util.NoSuchElementException("cannot retrieve data from empty data structure");
+        }
+        return values[1];
+    }
+
+    /**
+     * Returns the number of entries in the heap.
+     * @return the size of the heap
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether or not the heap is empty.
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Clears the heap.
+     * Resets the backing arrays to the initial capacity and resets the size.
+     */
+    public void clear() {
+        size = 0;
+        keys = new long[INITIAL_CAPACITY + 1];
+        values = new long[INITIAL_CAPACITY + 1];
+    }
+
+    /**
+     * private helper method that removes the minimum entry, assuming the heap
+     * is not empty
+     */
+    private void removeMin() {
+        long key = keys[size];
+        long value = values[size];
+        size--;
+        // let n represent the index of the hole moving down the heap
+        int n = 1;
+        while (2 * n <= size) {
+            int child = 2 * n;
+            if (child < size && keys[child + 1] < keys[child]) {
+                child++;
+            }
+            if (key <= keys[child]) {
+                break;
+            }
+            keys[n] = keys[child];
+            values[n] = values[child];
+            n = child;
+        }
+        if (size > 0) {
+            keys[n] = key;
+            values[n] = value;
+        }
+    }
+}
@@ -1,4 +1,5 @@
 import java.util.ArrayList;
+import java.util.Collection;
 
 /**
  * Your implementation of a MinHeap.
@@ -14,14 +15,34 @@ public class MinHeap<T extends Comparable<? super T>> {
      */
     public static final int INITIAL_CAPACITY = 13;
 
+    /**
+     * The number of children each node has when created with a constructor
+     * that does not take an arity.
+     */
+    public static final int DEFAULT_ARITY = 2;
 
     private T[] backingArray;
     private int size;
+    private final int arity;
 
     /**
      * Constructs a new MinHeap.
      */
     public MinHeap() {
+        this(DEFAULT_ARITY);
+    }
+
+    /**
+     * Constructs a new d-ary MinHeap. Wider heaps are shorter, so fewer
+     * levels are visited on every add and remove.
+     * @param arity the number of children each node has
+     * @throws java.lang.IllegalArgumentException if arity is less than 2
+     */
+    public MinHeap(int arity) {
+        if (arity < 2) {
+            throw new java.lang.IllegalArgumentException("heap arity must be at least 2");
+        }
+        this.arity = arity;
         backingArray = (T[]) new Comparable[INITIAL_CAPACITY];
     }
 
@@ -32,47 +53,35 @@ public class MinHeap<T extends Comparable<? super T>> {
      *                                            is null
      */
     public MinHeap(ArrayList<T> data) {
+        this(data, DEFAULT_ARITY);
+    }
+
+    /**
+     * Creates a properly ordered d-ary heap from a set of initial values.
+     * @param data  a list of data to initialize the heap with
+     * @param arity the number of children each node has
+     * @throws java.lang.IllegalArgumentException if data or any element in data
+     *                                            is null, or if arity is less
+     *                                            than 2
+     */
+    public MinHeap(ArrayList<T> data, int arity) {
         if (data == null || data.contains(null)) {
             throw new java.lang.IllegalArgumentException("cannot build heap from null ArrayList or ArrayList "
                     + "containing null");
         }
+        if (arity < 2) {
+            throw new java.lang.IllegalArgumentException("heap arity must be at least 2");
+        }
+        this.arity = arity;
         backingArray = (T[]) new Comparable[2 * data.size() + 1];
         size = data.size();
         for (int i = 1; i <= size; i++) {
             backingArray[i] = data.get(i - 1);
         }
-        for (int i = size / 2; i >= 1; i--) {
-            // let n represent the index of the parent node that will be compared to its children
-            int n = i;
-            while (2 * n < backingArray.length && backingArray[2 * n] != null) {
-                if (2 * n + 1 < backingArray.length && backingArray[2 * n + 1] != null) {
-                    if (backingArray[2 * n].compareTo(backingArray[2 * n + 1]) < 0) {
-                        if (backingArray[n].compareTo(backingArray[2 * n]) > 0) {
-                            T temp = backingArray[n];
-                            backingArray[n] = backingArray[2 * n];
-                            backingArray[2 * n] = temp;
-                            n *= 2;
-                        } else {
-                            break;
-                        }
-                    } else {
-                        if (backingArray[n].compareTo(backingArray[2 * n + 1]) > 0) {
-                            T temp = backingArray[n];
-                            backingArray[n] = backingArray[2 * n + 1];
-                            backingArray[2 * n + 1] = temp;
-                            n =  2 * n + 1;
-                        } else {
-                            break;
-                        }
-                    }
-                } else if (backingArray[n].compareTo(backingArray[2 * n]) > 0) {
-                    T temp = backingArray[n];
-                    backingArray[n] = backingArray[2 * n];
-                    backingArray[2 * n] = temp;
-                    n *= 2;
-                } else {
-                    break;
-                }
+        // parent() is only defined for indices above 1
+        if (size > 1) {
+            for (int i = parent(size); i >= 1; i--) {
+                downHeap(i);
             }
         }
     }
@@ -88,26 +97,61 @@ public class MinHeap<T extends Comparable<? super T>> {
         }
         if (size + 1 == backingArray.length) {
             T[] temp = (T[]) new Comparable[backingArray.length * 2];
-            for (int i = 1; i < backingArray.length; i++) {
+            for (int i = 1; i <= size; i++) {
                 temp[i] = backingArray[i];
             }
             backingArray = temp;
         }
         size++;
         backingArray[size] = data;
-        // let n represent the index of a child node that will be compared to its parent for up-heap
-        int n = size;
-        // while loop is up-heap
-        while (n > 1) {
-            if (backingArray[n].compareTo(backingArray[n / 2]) < 0) {
-                T temp = backingArray[n];
-                backingArray[n] = backingArray[n / 2];
-                backingArray[n / 2] = temp;
-                n /= 2;
-            } else {
-                break;
+        upHeap(size);
+    }
+
+    /**
+     * Adds every item in data to the heap. Small batches are added one at a
+     * time; when the batch is large compared to the heap, the items are
+     * appended and the whole heap is rebuilt bottom-up instead, which is
+     * linear in the new size.
+     * @param data the data to add
+     * @throws java.lang.IllegalArgumentException if data or any element in data
+     *                                            is null
+     */
+    public void addAll(Collection<? extends T> data) {
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("cannot add null collection to data structure");
+        }
+        for (T datum : data) {
+            if (datum == null) {
+                throw new java.lang.IllegalArgumentException("cannot add null data to data structure");
             }
         }
+        int oldSize = size;
+        ensureCapacity(size + data.size());
+        for (T datum : data) {
+            size++;
+            backingArray[size] = datum;
+        }
+        reheapAfterAppend(oldSize);
+    }
+
+    /**
+     * Adds every item in other to this heap. other is left unchanged.
+     * @param other the heap whose data should be added
+     * @throws java.lang.IllegalArgumentException if other is null
+     */
+    public void merge(MinHeap<? extends T> other) {
+        if (other == null) {
+            throw new java.lang.IllegalArgumentException("cannot merge a null heap");
+        }
+        int otherSize = other.size;
+        int oldSize = size;
+        ensureCapacity(size + otherSize);
+        // copy from index 1 forward so merging a heap into itself reads only the original data
+        for (int i = 1; i <= otherSize; i++) {
+            backingArray[size + 1] = other.backingArray[i];
+            size++;
+        }
+        reheapAfterAppend(oldSize);
     }
 
     /**
@@ -123,39 +167,30 @@ public class MinHeap<T extends Comparable<? super T>> {
         backingArray[1] = backingArray[size];
         backingArray[size] = null;
         size--;
-        // let n represent the index of the parent node that will be compared to its children
-        int n = 1;
-        // while loop is down-heap
-        while (2 * n < backingArray.length && backingArray[2 * n] != null) {
-            if (2 * n + 1 < backingArray.length && backingArray[2 * n + 1] != null) {
-                if (backingArray[2 * n].compareTo(backingArray[2 * n + 1]) < 0) {
-                    if (backingArray[n].compareTo(backingArray[2 * n]) > 0) {
-                        T temp = backingArray[n];
-                        backingArray[n] = backingArray[2 * n];
-                        backingArray[2 * n] = temp;
-                        n *= 2;
-                    } else {
-                        break;
-                    }
-                } else {
-                    if (backingArray[n].compareTo(backingArray[2 * n + 1]) > 0) {
-                        T temp = backingArray[n];
-                        backingArray[n] = backingArray[2 * n + 1];
-                        backingArray[2 * n + 1] = temp;
-                        n = 2 * n + 1;
-                    } else {
-                        break;
-                    }
-                }
-            } else if (backingArray[n].compareTo(backingArray[2 * n]) > 0) {
-                T temp = backingArray[n];
-                backingArray[n] = backingArray[2 * n];
-                backingArray[2 * n] = temp;
-                n *= 2;
-            } else {
-                break;
-            }
+        if (size > 0) {
+            downHeap(1);
+        }
+        return stored;
+    }
+
+    /**
+     * Removes the min item of the heap and adds data in its place in a single
+     * pass down the heap.
+     * @param data the data to add
+     * @return the data that was removed
+     * @throws java.lang.IllegalArgumentException if data is null
+     * @throws java.util.NoSuchElementException   if the heap is empty
+     */
+    public T replaceMin(T data) {
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("cannot add null data to data structure");
+        }
+        if (size == 0) {
+            throw new java.util.NoSuchElementException("cannot remove data from empty data structure");
         }
+        T stored = backingArray[1];
+        backingArray[1] = data;
+        downHeap(1);
         return stored;
     }
 
@@ -171,6 +206,14 @@ public class MinHeap<T extends Comparable<? super T>> {
         return backingArray[1];
     }
 
+    /**
+     * Returns the number of elements in the heap.
+     * @return the size of the heap
+     */
+    public int size() {
+        return size;
+    }
+
     /**
      * Returns whether or not the heap is empty.
      * @return true if empty, false otherwise
@@ -188,4 +231,103 @@ public class MinHeap<T extends Comparable<? super T>> {
         size = 0;
         backingArray = (T[]) new Comparable[INITIAL_CAPACITY];
     }
+
+    /**
+     * Returns the number of children each node in the heap has.
+     * @return the arity of the heap
+     */
+    public int getArity() {
+        return arity;
+    }
+
+    /**
+     * private helper method that grows the backing array so it can hold
+     * capacity elements
+     * @param capacity number of elements the backing array must hold
+     */
+    private void ensureCapacity(int capacity) {
+        if (capacity + 1 > backingArray.length) {
+            T[] temp = (T[]) new Comparable[Math.max(backingArray.length * 2, capacity + 1)];
+            for (int i = 1; i <= size; i++) {
+                temp[i] = backingArray[i];
+            }
+            backingArray = temp;
+        }
+    }
+
+    /**
+     * private helper method that restores the heap property after data has
+     * been appended past oldSize. Up-heaps each new element when the batch is
+     * small, and rebuilds the whole heap bottom-up when the batch costs more
+     * to up-heap than a full rebuild would.
+     * @param oldSize the size of the heap before the data was appended
+     */
+    private void reheapAfterAppend(int oldSize) {
+        long added = size - oldSize;
+        int levels = 32 - Integer.numberOfLeadingZeros(size);
+        if (added * levels > size) {
+            for (int i = parent(size); i >= 1; i--) {
+                downHeap(i);
+            }
+        } else {
+            for (int i = oldSize + 1; i <= size; i++) {
+                upHeap(i);
+            }
+        }
+    }
+
+    /**
+     * private helper method that returns the index of the parent of a node
+     * @param index index of the child node, must be greater than 1
+     * @return index of the parent node
+     */
+    private int parent(int index) {
+        return (index - 2) / arity + 1;
+    }
+
+    /**
+     * private helper method that moves the data at index up the heap. The
+     * data is held aside while parents are shifted down into the hole it
+     * leaves, then written once at its final position.
+     * @param index index of the data to move
+     */
+    private void upHeap(int index) {
+        T data = backingArray[index];
+        while (index > 1) {
+            int parent = parent(index);
+            if (data.compareTo(backingArray[parent]) >= 0) {
+                break;
+            }
+            backingArray[index] = backingArray[parent];
+            index = parent;
+        }
+        backingArray[index] = data;
+    }
+
+    /**
+     * private helper method that moves the data at index down the heap. The
+     * data is held aside while the smallest child is shifted up into the hole
+     * it leaves, then written once at its final position.
+     * @param index index of the data to move
+     */
+    private void downHeap(int index) {
+        T data = backingArray[index];
+        // index of the first child is arity * (index - 1) + 2, compared as a long so it cannot overflow
+        while ((long) arity * (index - 1) + 2 <= size) {
+            int first = arity * (index - 1) + 2;
+            int last = (int) Math.min((long) first + arity - 1, size);
+            int child = first;
+            for (int i = first + 1; i <= last; i++) {
+                if (backingArray[i].compareTo(backingArray[child]) < 0) {
+                    child = i;
+                }
+            }
+            if (data.compareTo(backingArray[child]) <= 0) {
+                break;
+            }
+            backingArray[index] = backingArray[child];
+            index = child;
+        }
+        backingArray[index] = data;
+    }
 }
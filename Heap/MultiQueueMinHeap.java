@@ -0,0 +1,195 @@
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Thread-safe MinHeap with relaxed ordering, built as a MultiQueue. Data is
+ * spread over several MinHeaps, each guarded by its own lock. add picks a
+ * random heap that is not locked, and remove compares the minimums of two
+ * random heaps and removes from the smaller one.
+ *
+ * Threads rarely wait on each other, but remove may return data that is
+ * close to, rather than exactly, the smallest in the structure. Use the
+ * ConcurrentMinHeap when strict ordering is needed.
+ *
+ * @author Sohum Gala
+ * @version 1.0
+ */
+public class MultiQueueMinHeap<T extends Comparable<? super T>> {
+
+    /**
+     * The number of heaps used per available processor when created with the
+     * default constructor.
+     */
+    public static final int HEAPS_PER_PROCESSOR = 2;
+
+    private final MinHeap<T>[] heaps;
+    private final ReentrantLock[] locks;
+    private final AtomicReferenceArray<T> minimums;
+    private final AtomicInteger size;
+
+    /**
+     * Constructs a new MultiQueueMinHeap with two heaps per available
+     * processor.
+     */
+    public MultiQueueMinHeap() {
+        this(HEAPS_PER_PROCESSOR * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a new MultiQueueMinHeap.
+     * @param numHeaps the number of heaps to spread the data over
+     * @throws java.lang.IllegalArgumentException if numHeaps is less than 1
+     */
+    public MultiQueueMinHeap(int numHeaps) {
+        if (numHeaps < 1) {
+            throw new java.lang.IllegalArgumentException("must use at least one heap");
+        }
+        heaps = (MinHeap<T>[]) new MinHeap[numHeaps];
+        locks = new ReentrantLock[numHeaps];
+        for (int i = 0; i < numHeaps; i++) {
+            heaps[i] = new MinHeap<>();
+            locks[i] = new ReentrantLock();
+        }
+        minimums = new AtomicReferenceArray<>(numHeaps);
+        size = new AtomicInteger();
+    }
+
+    /**
+     * Adds an item to one of the heaps.
+     * @param data the data to add
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void add(T data) {
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("cannot add null data to data structure");
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (true) {
+            int i = random.nextInt(heaps.length);
+            if (locks[i].tryLock()) {
+                try {
+                    heaps[i].add(data);
+                    minimums.set(i, heaps[i].getMin());
+                } finally {
+                    locks[i].unlock();
+                }
+                size.incrementAndGet();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the smaller of the minimums of two randomly chosen
+     * heaps.
+     * @return the data that was removed
+     * @throws java.util.NoSuchElementException if every heap is empty
+     */
+    public T remove() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int attempt = 0; attempt < 2 * heaps.length; attempt++) {
+            int i = random.nextInt(heaps.length);
+            int j = random.nextInt(heaps.length);
+            T minI = minimums.get(i);
+            T minJ = minimums.get(j);
+            if (minI == null && minJ == null) {
+                continue;
+            }
+            int chosen = (minJ == null || (minI != null && minI.compareTo(minJ) <= 0)) ? i : j;
+            if (locks[chosen].tryLock()) {
+                try {
+                    if (!heaps[chosen].isEmpty()) {
+                        return removeFrom(chosen);
+                    }
+                } finally {
+                    locks[chosen].unlock();
+                }
+            }
+        }
+        // random choices kept missing, so look at every heap before giving up
+        for (int i = 0; i < heaps.length; i++) {
+            locks[i].lock();
+            try {
+                if (!heaps[i].isEmpty()) {
+                    return removeFrom(i);
+                }
+            } finally {
+                locks[i].unlock();
+            }
+        }
+        throw new java.util.NoSuchElementException("cannot remove data from empty data structure");
+    }
+
+    /**
+     * Returns the smallest of the minimums of every heap. Other threads may
+     * change the heaps while they are being read.
+     * @return the minimum element
+     * @throws java.util.NoSuchElementException if every heap is empty
+     */
+    public T getMin() {
+        T min = null;
+        for (int i = 0; i < heaps.length; i++) {
+            T curr = minimums.get(i);
+            if (curr != null && (min == null || curr.compareTo(min) < 0)) {
+                min = curr;
+            }
+        }
+        if (min == null) {
+            throw new java.util.NoSuchElementException("cannot retrieve data from empty data structure");
+        }
+        return min;
+    }
+
+    /**
+     * Returns the number of elements in the structure. The count may be stale
+     * if other threads are adding or removing at the same time.
+     * @return the size of the structure
+     */
+    public int size() {
+        return Math.max(size.get(), 0);
+    }
+
+    /**
+     * Returns whether or not every heap is empty.
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        for (int i = 0; i < heaps.length; i++) {
+            if (minimums.get(i) != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Clears every heap.
+     */
+    public void clear() {
+        for (int i = 0; i < heaps.length; i++) {
+            locks[i].lock();
+            try {
+                size.addAndGet(-heaps[i].size());
+                heaps[i].clear();
+                minimums.set(i, null);
+            } finally {
+                locks[i].unlock();
+            }
+        }
+    }
+
+    /**
+     * private helper method that removes the minimum of a heap, which must be
+     * locked by the caller and not empty
+     * @param i index of the heap to remove from
+     * @return the data that was removed
+     */
+    private T removeFrom(int i) {
+        T stored = heaps[i].remove();
+        minimums.set(i, heaps[i].isEmpty() ? null : heaps[i].getMin());
+        size.decrementAndGet();
+        return stored;
+    }
+}
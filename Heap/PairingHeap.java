@@ -0,0 +1,219 @@
+/**
+ * Implementation of a pairing heap, a meldable MinHeap made of linked
+ * nodes. add, meld, and getMin are O(1), decreaseKey is amortized
+ * sub-logarithmic, and remove is amortized O(log n).
+ *
+ * @author Sohum Gala
+ * @version 1.0
+ */
+public class PairingHeap<T extends Comparable<? super T>> {
+
+    private PairingHeapNode<T> root;
+    private int size;
+    private PairingHeapOwner owner = new PairingHeapOwner();
+
+    /**
+     * Constructs a new PairingHeap.
+     */
+    public PairingHeap() {
+
+    }
+
+    /**
+     * Adds an item to the heap.
+     * @param data the data to add
+     * @return the node holding the data, to be used with decreaseKey
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public PairingHeapNode<T> add(T data) {
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("cannot add null data to data structure");
+        }
+        PairingHeapNode<T> node = new PairingHeapNode<>(data);
+        node.setOwner(owner);
+        root = (root == null) ? node : link(root, node);
+        size++;
+        return node;
+    }
+
+    /**
+     * Removes and returns the min item of the heap.
+     * @return the data that was removed
+     * @throws java.util.NoSuchElementException if the heap is empty
+     */
+    public T remove() {
+        if (size == 0) {
+            throw new java.util.NoSuchElementException("cannot remove data from empty data structure");
+        }
+        PairingHeapNode<T> removed = root;
+        root = combineSiblings(removed.getChild());
+        removed.setChild(null);
+        removed.setOwner(null);
+        size--;
+        return removed.getData();
+    }
+
+    /**
+     * Replaces the data in node with newData, which must be less than or
+     * equal to the data already there.
+     * @param node    a node returned by add that is still in this heap
+     * @param newData the data to replace it with
+     * @throws java.lang.IllegalArgumentException if either input is null,
+     *                                            newData is greater than the
+     *                                            data in node, or node is not
+     *                                            in this heap
+     */
+    public void decreaseKey(PairingHeapNode<T> node, T newData) {
+        if (node == null || newData == null) {
+            throw new java.lang.IllegalArgumentException("cannot decrease key using null data");
+        }
+        if (node.getOwner() == null || node.getOwner().resolve() != owner) {
+            throw new java.lang.IllegalArgumentException("node is not in this heap");
+        }
+        if (newData.compareTo(node.getData()) > 0) {
+            throw new java.lang.IllegalArgumentException("new data cannot be greater than the old data");
+        }
+        node.setData(newData);
+        if (node == root) {
+            return;
+        }
+        PairingHeapNode<T> prev = node.getPrev();
+        if (prev.getChild() == node) {
+            prev.setChild(node.getSibling());
+        } else {
+            prev.setSibling(node.getSibling());
+        }
+        if (node.getSibling() != null) {
+            node.getSibling().setPrev(prev);
+        }
+        node.setSibling(null);
+        node.setPrev(null);
+        root = link(root, node);
+    }
+
+    /**
+     * Moves every item in other into this heap in O(1). other is left empty.
+     * @param other the heap to meld into this one
+     * @throws java.lang.IllegalArgumentException if other is null or is this
+     *                                            heap
+     */
+    public void meld(PairingHeap<T> other) {
+        if (other == null || other == this) {
+            throw new java.lang.IllegalArgumentException("cannot meld a null heap or a heap with itself");
+        }
+        if (other.root != null) {
+            root = (root == null) ? other.root : link(root, other.root);
+            size += other.size;
+        }
+        // the nodes of other now resolve to this heap, and other starts over
+        other.owner.forwardTo(owner);
+        other.owner = new PairingHeapOwner();
+        other.root = null;
+        other.size = 0;
+    }
+
+    /**
+     * Returns the minimum element in the heap.
+     * @return the minimum element
+     * @throws java.util.NoSuchElementException if the heap is empty
+     */
+    public T getMin() {
+        if (size == 0) {
+            throw new java.util.NoSuchElementException("cannot retrieve data from empty data structure");
+        }
+        return root.getData();
+    }
+
+    /**
+     * Returns the number of elements in the heap.
+     * @return the size of the heap
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether or not the heap is empty.
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Clears the heap.
+     */
+    public void clear() {
+        if (root != null) {
+            root.setChild(null);
+        }
+        // a fresh token leaves every old node resolving to a dead one
+        owner = new PairingHeapOwner();
+        root = null;
+        size = 0;
+    }
+
+    /**
+     * private helper method that links two roots, making the larger one the
+     * first child of the smaller one
+     * @param first  a root with no siblings
+     * @param second another root with no siblings
+     * @return the root of the linked trees
+     */
+    private PairingHeapNode<T> link(PairingHeapNode<T> first, PairingHeapNode<T> second) {
+        if (second.getData().compareTo(first.getData()) < 0) {
+            PairingHeapNode<T> temp = first;
+            first = second;
+            second = temp;
+        }
+        second.setSibling(first.getChild());
+        if (first.getChild() != null) {
+            first.getChild().setPrev(second);
+        }
+        second.setPrev(first);
+        first.setChild(second);
+        first.setPrev(null);
+        return first;
+    }
+
+    /**
+     * private helper method that combines a list of siblings into one tree
+     * using the two pass method. The first pass links pairs from left to
+     * right, and the second links the results from right to left. Runs in a
+     * loop so long sibling lists cannot overflow the stack.
+     * @param first the first sibling in the list
+     * @return the root of the combined tree
+     */
+    private PairingHeapNode<T> combineSiblings(PairingHeapNode<T> first) {
+        if (first == null) {
+            return null;
+        }
+        // pairs holds the results of the first pass, last result first
+        PairingHeapNode<T> pairs = null;
+        PairingHeapNode<T> curr = first;
+        while (curr != null) {
+            PairingHeapNode<T> second = curr.getSibling();
+            PairingHeapNode<T> next = (second == null) ? null : second.getSibling();
+            curr.setSibling(null);
+            PairingHeapNode<T> merged = curr;
+            if (second != null) {
+                second.setSibling(null);
+                merged = link(curr, second);
+            }
+            merged.setSibling(pairs);
+            pairs = merged;
+            curr = next;
+        }
+        PairingHeapNode<T> result = pairs;
+        pairs = pairs.getSibling();
+        result.setSibling(null);
+        while (pairs != null) {
+            PairingHeapNode<T> next = pairs.getSibling();
+            pairs.setSibling(null);
+            result = link(result, pairs);
+            pairs = next;
+        }
+        result.setPrev(null);
+        return result;
+    }
+}
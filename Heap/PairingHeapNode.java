@@ -0,0 +1,104 @@
+/**
+ * Node class used for implementing the PairingHeap. add returns the node
+ * holding the new data so it can be passed back to decreaseKey later.
+ *
+ * @author Sohum Gala
+ * @version 1.0
+ */
+public class PairingHeapNode<T extends Comparable<? super T>> {
+
+    private T data;
+    private PairingHeapNode<T> child;
+    private PairingHeapNode<T> sibling;
+    private PairingHeapNode<T> prev;
+    private PairingHeapOwner owner;
+
+    /**
+     * Constructs a PairingHeapNode with the given data.
+     * @param data the data stored in the new node
+     */
+    PairingHeapNode(T data) {
+        this.data = data;
+    }
+
+    /**
+     * Gets the data.
+     * @return the data
+     */
+    public T getData() {
+        return data;
+    }
+
+    /**
+     * Gets the first child.
+     * @return the first child
+     */
+    PairingHeapNode<T> getChild() {
+        return child;
+    }
+
+    /**
+     * Gets the next sibling.
+     * @return the next sibling
+     */
+    PairingHeapNode<T> getSibling() {
+        return sibling;
+    }
+
+    /**
+     * Gets the previous node, which is the parent for a first child and the
+     * previous sibling otherwise.
+     * @return the previous node
+     */
+    PairingHeapNode<T> getPrev() {
+        return prev;
+    }
+
+    /**
+     * Gets the owner token of the heap the node was added to.
+     * @return the owner token, or null once the node has been removed
+     */
+    PairingHeapOwner getOwner() {
+        return owner;
+    }
+
+    /**
+     * Sets the data.
+     * @param data the new data
+     */
+    void setData(T data) {
+        this.data = data;
+    }
+
+    /**
+     * Sets the first child.
+     * @param child the new first child
+     */
+    void setChild(PairingHeapNode<T> child) {
+        this.child = child;
+    }
+
+    /**
+     * Sets the next sibling.
+     * @param sibling the new next sibling
+     */
+    void setSibling(PairingHeapNode<T> sibling) {
+        this.sibling = sibling;
+    }
+
+    /**
+     * Sets the previous node.
+     * @param prev the new previous node
+     */
+    void setPrev(PairingHeapNode<T> prev) {
+        this.prev = prev;
+    }
+
+    /**
+     * Sets the owner token.
+     * @param owner the new owner token
+     */
+    void setOwner(PairingHeapOwner owner) {
+        this.owner = owner;
+    }
+}
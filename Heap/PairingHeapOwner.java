@@ -0,0 +1,49 @@
+/**
+ * Owner token used for implementing the PairingHeap. Every node points at
+ * the token of the heap it was added to. Melding a heap forwards its token
+ * to the token of the heap it was melded into, so the nodes it held still
+ * resolve to their new heap without being visited, and clearing a heap gives
+ * it a fresh token so its old nodes no longer resolve to it.
+ *
+ * @author Sohum Gala
+ * @version 1.0
+ */
+class PairingHeapOwner {
+
+    private PairingHeapOwner next;
+
+    /**
+     * Constructs a new PairingHeapOwner that is not forwarded.
+     */
+    PairingHeapOwner() {
+
+    }
+
+    /**
+     * Forwards this token to the token of the heap it was melded into.
+     * @param next the token to forward to
+     */
+    void forwardTo(PairingHeapOwner next) {
+        this.next = next;
+    }
+
+    /**
+     * Follows the forwarding chain to the token of the heap that owns this
+     * one, pointing every token on the way straight at it so later lookups
+     * are short.
+     * @return the token at the end of the chain
+     */
+    PairingHeapOwner resolve() {
+        PairingHeapOwner last = this;
+        while (last.next != null) {
+            last = last.next;
+        }
+        PairingHeapOwner curr = this;
+        while (curr != last) {
+            PairingHeapOwner next = curr.next;
+            curr.next = last;
+            curr = next;
+        }
+        return last;
+    }
+}
@@ -0,0 +1,105 @@
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects the k largest items of a stream of data of any length, using a
+ * MinHeap of at most k items. The smallest kept item sits at the root, so
+ * each new item is either thrown away after one comparison or replaces the
+ * root.
+ *
+ * @author Sohum Gala
+ * @version 1.0
+ */
+public class TopKCollector<T extends Comparable<? super T>> {
+
+    private final int k;
+    private final MinHeap<T> heap;
+
+    /**
+     * Constructs a new TopKCollector.
+     * @param k the number of largest items to keep
+     * @throws java.lang.IllegalArgumentException if k is negative
+     */
+    public TopKCollector(int k) {
+        if (k < 0) {
+            throw new java.lang.IllegalArgumentException("k cannot be negative");
+        }
+        this.k = k;
+        heap = new MinHeap<>();
+    }
+
+    /**
+     * Offers an item to the collector. The item is kept if fewer than k
+     * items have been kept so far or if it is larger than the smallest item
+     * kept.
+     * @param data the data to offer
+     * @return true if the data was kept, false otherwise
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public boolean offer(T data) {
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("cannot add null data to data structure");
+        }
+        if (heap.size() < k) {
+            heap.add(data);
+            return true;
+        }
+        if (k == 0 || data.compareTo(heap.getMin()) <= 0) {
+            return false;
+        }
+        heap.replaceMin(data);
+        return true;
+    }
+
+    /**
+     * Offers every item in data to the collector.
+     * @param data the data to offer
+     * @throws java.lang.IllegalArgumentException if data or any element in data
+     *                                            is null
+     */
+    public void offerAll(Iterable<? extends T> data) {
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("cannot add null collection to data structure");
+        }
+        for (T datum : data) {
+            offer(datum);
+        }
+    }
+
+    /**
+     * Returns the items kept so far in sorted order, least to greatest.
+     * @return sorted list of the largest items offered
+     */
+    public List<T> getTopK() {
+        List<T> list = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            list.add(heap.remove());
+        }
+        // a sorted list is already a valid heap, so adding it back is linear
+        heap.addAll(list);
+        return list;
+    }
+
+    /**
+     * Returns the number of items kept so far.
+     * @return the number of items kept
+     */
+    public int size() {
+        return heap.size();
+    }
+
+    /**
+     * Returns the number of largest items the collector keeps.
+     * @return k
+     */
+    public int getK() {
+        return k;
+    }
+
+    /**
+     * Clears the collector.
+     */
+    public void clear() {
+        heap.clear();
+    }
+}
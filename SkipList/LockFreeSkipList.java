@@ -0,0 +1,253 @@
+import java.util.Iterator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicMarkableReference;
+
+/**
+ * My Lock-Free Skip List Implementation
+ *
+ * A thread-safe ordered set. Every level of the list is a sorted linked
+ * list, and each node is linked into a random number of levels so searches
+ * can skip ahead. Nodes are added and unlinked with compare-and-set, and a
+ * node is removed by first marking its next references, so no thread ever
+ * holds a lock.
+ *
+ * contains and get never retry and are wait-free. add and remove are
+ * lock-free.
+ *
+ * @author Sohum Gala
+ * @version 1.0
+ */
+public class LockFreeSkipList<T extends Comparable<? super T>> implements Iterable<T> {
+
+    /**
+     * The number of levels in the list.
+     */
+    public static final int MAX_LEVEL = 32;
+
+    private final LockFreeSkipListNode<T> head;
+    private final AtomicInteger size;
+
+    /**
+     * Constructs a new LockFreeSkipList.
+     */
+    public LockFreeSkipList() {
+        head = new LockFreeSkipListNode<>(null, MAX_LEVEL - 1);
+        size = new AtomicInteger();
+    }
+
+    /**
+     * Adds the data to the list. If the data is already in the list, nothing
+     * happens.
+     * @param data the data to add
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void add(T data) {
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("Cannot add null data to data structure");
+        }
+        int topLevel = randomLevel();
+        LockFreeSkipListNode<T>[] preds = (LockFreeSkipListNode<T>[]) new LockFreeSkipListNode[MAX_LEVEL];
+        LockFreeSkipListNode<T>[] succs = (LockFreeSkipListNode<T>[]) new LockFreeSkipListNode[MAX_LEVEL];
+        while (true) {
+            if (find(data, preds, succs)) {
+                return;
+            }
+            LockFreeSkipListNode<T> node = new LockFreeSkipListNode<>(data, topLevel);
+            for (int level = 0; level <= topLevel; level++) {
+                node.getNext(level).set(succs[level], false);
+            }
+            // the node is in the set once it is linked into the bottom level
+            if (!preds[0].getNext(0).compareAndSet(succs[0], node, false, false)) {
+                continue;
+            }
+            size.incrementAndGet();
+            for (int level = 1; level <= topLevel; level++) {
+                while (true) {
+                    AtomicMarkableReference<LockFreeSkipListNode<T>> next = node.getNext(level);
+                    LockFreeSkipListNode<T> succ = succs[level];
+                    if (next.isMarked()) {
+                        // another thread started removing the node, so stop linking it in
+                        return;
+                    }
+                    LockFreeSkipListNode<T> oldSucc = next.getReference();
+                    if (oldSucc != succ && !next.compareAndSet(oldSucc, succ, false, false)) {
+                        continue;
+                    }
+                    if (preds[level].getNext(level).compareAndSet(succ, node, false, false)) {
+                        break;
+                    }
+                    find(data, preds, succs);
+                }
+            }
+            return;
+        }
+    }
+
+    /**
+     * Removes and returns the data from the list matching the given parameter.
+     * @param data the data to remove
+     * @return the data that was removed
+     * @throws java.lang.IllegalArgumentException if data is null
+     * @throws java.util.NoSuchElementException   if the data is not in the list
+     */
+    public T remove(T data) {
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("Cannot remove null data from data structure");
+        }
+        LockFreeSkipListNode<T>[] preds = (LockFreeSkipListNode<T>[]) new LockFreeSkipListNode[MAX_LEVEL];
+        LockFreeSkipListNode<T>[] succs = (LockFreeSkipListNode<T>[]) new LockFreeSkipListNode[MAX_LEVEL];
+        if (!find(data, preds, succs)) {
+            throw new java.util.NoSuchElementException("Could not find specified data in data structure");
+        }
+        LockFreeSkipListNode<T> node = succs[0];
+        boolean[] marked = new boolean[1];
+        for (int level = node.getTopLevel(); level >= 1; level--) {
+            LockFreeSkipListNode<T> succ = node.getNext(level).get(marked);
+            while (!marked[0]) {
+                node.getNext(level).compareAndSet(succ, succ, false, true);
+                succ = node.getNext(level).get(marked);
+            }
+        }
+        // whichever thread marks the bottom level is the one that removed the node
+        LockFreeSkipListNode<T> succ = node.getNext(0).get(marked);
+        while (!marked[0]) {
+            if (node.getNext(0).compareAndSet(succ, succ, false, true)) {
+                size.decrementAndGet();
+                find(data, preds, succs);
+                return node.getData();
+            }
+            succ = node.getNext(0).get(marked);
+        }
+        throw new java.util.NoSuchElementException("Could not find specified data in data structure");
+    }
+
+    /**
+     * Returns the data from the list matching the given parameter.
+     * @param data the data to search for
+     * @return the data in the list equal to the parameter
+     * @throws java.lang.IllegalArgumentException if data is null
+     * @throws java.util.NoSuchElementException   if the data is not in the list
+     */
+    public T get(T data) {
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("cannot retrieve null data from data structure");
+        }
+        LockFreeSkipListNode<T> curr = search(data);
+        if (curr == null || data.compareTo(curr.getData()) != 0) {
+            throw new java.util.NoSuchElementException("could not find specified data in data structure");
+        }
+        return curr.getData();
+    }
+
+    /**
+     * Returns whether or not data matching the given parameter is contained
+     * within the list.
+     * @param data the data to search for
+     * @return true if the parameter is contained within the list, false
+     * otherwise
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public boolean contains(T data) {
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("cannot search for null data in data structure");
+        }
+        LockFreeSkipListNode<T> curr = search(data);
+        return curr != null && data.compareTo(curr.getData()) == 0;
+    }
+
+    /**
+     * Returns the number of data in the list. The count may be stale if other
+     * threads are adding or removing at the same time.
+     * @return the size of the list
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Returns an iterator that walks the bottom level of the list in order.
+     * The iterator never fails because of concurrent changes, and may or may
+     * not see data added or removed after it was created.
+     * @return an in-order iterator over the list
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new LockFreeSkipListIterator<>(head);
+    }
+
+    /**
+     * private helper method that finds, at every level, the last node before
+     * data and the first node at or after it, unlinking any marked nodes it
+     * passes
+     * @param data data to search for
+     * @param preds filled with the last node before data at each level
+     * @param succs filled with the first node at or after data at each level
+     * @return true if a node holding data is in the bottom level
+     */
+    private boolean find(T data, LockFreeSkipListNode<T>[] preds, LockFreeSkipListNode<T>[] succs) {
+        boolean[] marked = new boolean[1];
+        retry:
+        while (true) {
+            LockFreeSkipListNode<T> pred = head;
+            LockFreeSkipListNode<T> curr = null;
+            for (int level = MAX_LEVEL - 1; level >= 0; level--) {
+                curr = pred.getNext(level).getReference();
+                while (curr != null) {
+                    LockFreeSkipListNode<T> succ = curr.getNext(level).get(marked);
+                    if (marked[0]) {
+                        if (!pred.getNext(level).compareAndSet(curr, succ, false, false)) {
+                            continue retry;
+                        }
+                        curr = succ;
+                    } else if (curr.getData().compareTo(data) < 0) {
+                        pred = curr;
+                        curr = succ;
+                    } else {
+                        break;
+                    }
+                }
+                preds[level] = pred;
+                succs[level] = curr;
+            }
+            return curr != null && data.compareTo(curr.getData()) == 0;
+        }
+    }
+
+    /**
+     * private helper method that finds the first node on the bottom level
+     * holding data greater than or equal to data, skipping marked nodes
+     * without unlinking them
+     * @param data data to search for
+     * @return the first unmarked node not less than data, or null
+     */
+    private LockFreeSkipListNode<T> search(T data) {
+        boolean[] marked = new boolean[1];
+        LockFreeSkipListNode<T> pred = head;
+        LockFreeSkipListNode<T> curr = null;
+        for (int level = MAX_LEVEL - 1; level >= 0; level--) {
+            curr = pred.getNext(level).getReference();
+            while (curr != null) {
+                LockFreeSkipListNode<T> succ = curr.getNext(level).get(marked);
+                if (marked[0]) {
+                    curr = succ;
+                } else if (curr.getData().compareTo(data) < 0) {
+                    pred = curr;
+                    curr = succ;
+                } else {
+                    break;
+                }
+            }
+        }
+        return curr;
+    }
+
+    /**
+     * private helper method that picks the top level for a new node, where
+     * each level is half as likely as the one below it
+     * @return the top level, between 0 and MAX_LEVEL - 1
+     */
+    private int randomLevel() {
+        return Integer.numberOfTrailingZeros(ThreadLocalRandom.current().nextInt() | (1 << (MAX_LEVEL - 1)));
+    }
+}
@@ -0,0 +1,52 @@
+import java.util.Iterator;
+
+/**
+ * Iterator that walks the bottom level of a LockFreeSkipList in order,
+ * skipping nodes that are being removed. It never fails because of
+ * concurrent changes, and may or may not see data added or removed after it
+ * was created.
+ *
+ * @author Sohum Gala
+ * @version 1.0
+ */
+public class LockFreeSkipListIterator<T extends Comparable<? super T>> implements Iterator<T> {
+
+    private LockFreeSkipListNode<T> next;
+
+    /**
+     * Constructs a new LockFreeSkipListIterator.
+     * @param head the head of the list to traverse
+     */
+    LockFreeSkipListIterator(LockFreeSkipListNode<T> head) {
+        next = nextUnmarked(head);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return next != null;
+    }
+
+    @Override
+    public T next() {
+        if (next == null) {
+            throw new java.util.NoSuchElementException("traversal has no more data");
+        }
+        T data = next.getData();
+        next = nextUnmarked(next);
+        return data;
+    }
+
+    /**
+     * private helper method that finds the first node on the bottom level
+     * after curr that is not being removed
+     * @param curr node to start after
+     * @return the next node in the list, or null if there is none
+     */
+    private LockFreeSkipListNode<T> nextUnmarked(LockFreeSkipListNode<T> curr) {
+        LockFreeSkipListNode<T> node = curr.getNext(0).getReference();
+        while (node != null && node.getNext(0).isMarked()) {
+            node = node.getNext(0).getReference();
+        }
+        return node;
+    }
+}
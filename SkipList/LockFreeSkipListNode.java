@@ -0,0 +1,53 @@
+import java.util.concurrent.atomic.AtomicMarkableReference;
+
+/**
+ * Node class used for implementing the LockFreeSkipList. Each level's next
+ * reference carries a mark, which is set when the node is being removed at
+ * that level.
+ *
+ * @author Sohum Gala
+ * @version 1.0
+ */
+public class LockFreeSkipListNode<T extends Comparable<? super T>> {
+
+    private final T data;
+    private final AtomicMarkableReference<LockFreeSkipListNode<T>>[] next;
+
+    /**
+     * Constructs a LockFreeSkipListNode with the given data.
+     * @param data     the data stored in the new node, null for the head
+     * @param topLevel the highest level the node is linked into
+     */
+    LockFreeSkipListNode(T data, int topLevel) {
+        this.data = data;
+        this.next = (AtomicMarkableReference<LockFreeSkipListNode<T>>[]) new AtomicMarkableReference[topLevel + 1];
+        for (int i = 0; i <= topLevel; i++) {
+            next[i] = new AtomicMarkableReference<>(null, false);
+        }
+    }
+
+    /**
+     * Gets the data.
+     * @return the data
+     */
+    T getData() {
+        return data;
+    }
+
+    /**
+     * Gets the next reference at a level.
+     * @param level the level of the reference
+     * @return the marked next reference at that level
+     */
+    AtomicMarkableReference<LockFreeSkipListNode<T>> getNext(int level) {
+        return next[level];
+    }
+
+    /**
+     * Gets the highest level the node is linked into.
+     * @return the top level of the node
+     */
+    int getTopLevel() {
+        return next.length - 1;
+    }
+}
@@ -0,0 +1,19 @@
+/**
+ * Comparator for primitive double data, used by the double[] overloads in
+ * Sorting so that sorting never boxes.
+ *
+ * @author Sohum Gala
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface DoubleComparator {
+
+    /**
+     * Compares two double data.
+     * @param a the first data
+     * @param b the second data
+     * @return negative, zero or positive as a is less than, equal to or
+     * greater than b
+     */
+    int compare(double a, double b);
+}
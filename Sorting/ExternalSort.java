@@ -0,0 +1,187 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * My External Merge Sort Implementation
+ *
+ * Sorts a file of fixed-width records that is too large to fit in memory.
+ * The input is memory-mapped one run at a time, each run is sorted in
+ * memory with Sorting.parallelMergeSort and spilled to a memory-mapped temp
+ * file, and then every run is merged into the output at once with a
+ * min-heap of run cursors. Records are only ever handled as slices of the
+ * mappings, so the data is copied once into each run and once into the
+ * output, never through the Java heap.
+ *
+ * @author Sohum Gala
+ * @version 1.0
+ */
+public class ExternalSort {
+
+    /**
+     * The most bytes of the output mapped at one time during the merge.
+     */
+    public static final int MAP_WINDOW_BYTES = 1 << 26;
+
+    /**
+     * Sorts the records of input into output. The sort is stable.
+     *
+     * Memory use is about runRecords records plus one small object per record
+     * of the current run, so runRecords sets the size of the in-memory sort.
+     * Temp files are created next to output and deleted before returning.
+     * Deletion is best-effort: Java cannot unmap a file on demand, so on
+     * platforms that lock mapped files, such as Windows, a run file that is
+     * still mapped is deleted when the JVM exits instead.
+     * @param input      the file to sort, a whole number of records long
+     * @param output     the file to write the sorted records to, replaced if
+     *                   it exists
+     * @param recordSize the number of bytes in each record
+     * @param comparator the Comparator used to compare records, each given
+     *                   as a buffer whose bytes 0 to recordSize - 1 are the
+     *                   record
+     * @param runRecords the number of records sorted in memory at once
+     * @param pool       the ForkJoinPool to sort runs on
+     * @throws java.lang.IllegalArgumentException if any argument is null, if
+     *                                            recordSize or runRecords is
+     *                                            not positive, if a run would
+     *                                            be 2 GB or larger, if input
+     *                                            and output are the same
+     *                                            file, or if the input is not
+     *                                            a whole number of records
+     *                                            long
+     * @throws IOException if reading input or writing output fails
+     */
+    public static void sort(Path input, Path output, int recordSize, Comparator<ByteBuffer> comparator,
+                            int runRecords, ForkJoinPool pool) throws IOException {
+        if (input == null || output == null || comparator == null || pool == null) {
+            throw new java.lang.IllegalArgumentException("input, output, comparator, or pool cannot be null");
+        }
+        if (recordSize <= 0 || runRecords <= 0) {
+            throw new java.lang.IllegalArgumentException("record size and run records must be positive");
+        }
+        if ((long) recordSize * runRecords > Integer.MAX_VALUE) {
+            throw new java.lang.IllegalArgumentException("a run must be smaller than 2 GB");
+        }
+        if (Files.exists(output) && Files.isSameFile(input, output)) {
+            throw new java.lang.IllegalArgumentException("input and output cannot be the same file");
+        }
+        Path tempDirectory = output.toAbsolutePath().getParent();
+        List<Path> runFiles = new ArrayList<>();
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ)) {
+            long inputSize = in.size();
+            if (inputSize % recordSize != 0) {
+                throw new java.lang.IllegalArgumentException("input is not a whole number of records long");
+            }
+            List<ExternalSortRun> runs = new ArrayList<>();
+            long runBytes = (long) recordSize * runRecords;
+            for (long offset = 0; offset < inputSize; offset += runBytes) {
+                MappedByteBuffer chunk = in.map(FileChannel.MapMode.READ_ONLY, offset,
+                        Math.min(runBytes, inputSize - offset));
+                Path runFile = Files.createTempFile(tempDirectory, "run", ".tmp");
+                runFiles.add(runFile);
+                ByteBuffer run = spill(sortChunk(chunk, recordSize, comparator, pool), recordSize, runFile);
+                runs.add(new ExternalSortRun(run, recordSize, runs.size()));
+            }
+            merge(runs, inputSize, recordSize, comparator, output);
+        } finally {
+            for (Path runFile : runFiles) {
+                try {
+                    Files.deleteIfExists(runFile);
+                } catch (IOException e) {
+                    // the file is still mapped on a platform that locks mapped files
+                    runFile.toFile().deleteOnExit();
+                }
+            }
+        }
+    }
+
+    /**
+     * private helper method that sorts the records of a mapped chunk of the
+     * input without copying them
+     * @param chunk the mapped chunk
+     * @param recordSize the number of bytes in each record
+     * @param comparator Comparator used to compare records
+     * @param pool ForkJoinPool to sort on
+     * @return the records of the chunk as slices, in sorted order
+     */
+    private static ByteBuffer[] sortChunk(ByteBuffer chunk, int recordSize, Comparator<ByteBuffer> comparator,
+                                          ForkJoinPool pool) {
+        ByteBuffer[] records = new ByteBuffer[chunk.capacity() / recordSize];
+        for (int i = 0; i < records.length; i++) {
+            chunk.limit((i + 1) * recordSize);
+            chunk.position(i * recordSize);
+            records[i] = chunk.slice();
+        }
+        Sorting.parallelMergeSort(records, comparator, pool);
+        return records;
+    }
+
+    /**
+     * private helper method that writes sorted records to a memory-mapped
+     * run file
+     * @param records the records to write, in order
+     * @param recordSize the number of bytes in each record
+     * @param runFile the file to write the run to
+     * @return the mapping of the run file, which the merge reads back
+     * @throws IOException if writing the run fails
+     */
+    private static ByteBuffer spill(ByteBuffer[] records, int recordSize, Path runFile) throws IOException {
+        try (FileChannel channel = FileChannel.open(runFile, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            MappedByteBuffer run = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                    (long) records.length * recordSize);
+            for (ByteBuffer record : records) {
+                run.put(record);
+            }
+            return run;
+        }
+    }
+
+    /**
+     * private helper method that merges every run into the output, mapping
+     * the output one window at a time
+     * @param runs cursors over the sorted runs
+     * @param outputSize the total number of bytes in all runs
+     * @param recordSize the number of bytes in each record
+     * @param comparator Comparator used to compare records
+     * @param output the file to write the sorted records to
+     * @throws IOException if writing the output fails
+     */
+    private static void merge(List<ExternalSortRun> runs, long outputSize, int recordSize,
+                              Comparator<ByteBuffer> comparator, Path output) throws IOException {
+        // equal records are taken from earlier runs first, keeping the sort stable
+        PriorityQueue<ExternalSortRun> heap = new PriorityQueue<>(Math.max(runs.size(), 1), (a, b) -> {
+            int comparison = comparator.compare(a.getCurrent(), b.getCurrent());
+            return (comparison != 0) ? comparison : Integer.compare(a.getIndex(), b.getIndex());
+        });
+        heap.addAll(runs);
+        try (FileChannel out = FileChannel.open(output, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            // windows hold whole records so none is split across two mappings
+            long windowBytes = (long) Math.max(1, MAP_WINDOW_BYTES / recordSize) * recordSize;
+            long mapped = 0;
+            MappedByteBuffer window = null;
+            while (!heap.isEmpty()) {
+                if (window == null || !window.hasRemaining()) {
+                    long length = Math.min(windowBytes, outputSize - mapped);
+                    window = out.map(FileChannel.MapMode.READ_WRITE, mapped, length);
+                    mapped += length;
+                }
+                ExternalSortRun run = heap.poll();
+                window.put(run.getCurrent());
+                if (run.advance()) {
+                    heap.add(run);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+import java.nio.ByteBuffer;
+
+/**
+ * Cursor over one sorted run of fixed-width records used by the k-way merge
+ * in ExternalSort. The run stays memory-mapped, and each record is handed
+ * out as a slice of the mapping, so no record is copied until it is written
+ * to the output.
+ *
+ * @author Sohum Gala
+ * @version 1.0
+ */
+public class ExternalSortRun {
+
+    private final ByteBuffer run;
+    private final int recordSize;
+    private final int index;
+    private ByteBuffer current;
+
+    /**
+     * Constructs a new ExternalSortRun positioned on the first record.
+     * @param run        the mapped run, holding at least one record
+     * @param recordSize the number of bytes in each record
+     * @param index      the order in which the run was written, used to
+     *                   break ties so the merge is stable
+     */
+    ExternalSortRun(ByteBuffer run, int recordSize, int index) {
+        this.run = run;
+        this.recordSize = recordSize;
+        this.index = index;
+        run.position(0);
+        advance();
+    }
+
+    /**
+     * Gets the current record.
+     *
+     * @return a buffer whose bytes 0 to recordSize - 1 are the record
+     */
+    ByteBuffer getCurrent() {
+        return current;
+    }
+
+    /**
+     * Gets the index of the run.
+     *
+     * @return the order in which the run was written
+     */
+    int getIndex() {
+        return index;
+    }
+
+    /**
+     * Moves to the next record.
+     *
+     * @return true if there is a next record, false if the run is used up
+     */
+    boolean advance() {
+        if (run.remaining() < recordSize) {
+            current = null;
+            return false;
+        }
+        int start = run.position();
+        run.limit(start + recordSize);
+        current = run.slice();
+        run.limit(run.capacity());
+        run.position(start + recordSize);
+        return true;
+    }
+}
@@ -0,0 +1,19 @@
+/**
+ * Comparator for primitive int data, used by the int[] overloads in
+ * Sorting so that sorting never boxes.
+ *
+ * @author Sohum Gala
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface IntComparator {
+
+    /**
+     * Compares two int data.
+     * @param a the first data
+     * @param b the second data
+     * @return negative, zero or positive as a is less than, equal to or
+     * greater than b
+     */
+    int compare(int a, int b);
+}
@@ -0,0 +1,19 @@
+/**
+ * Comparator for primitive long data, used by the long[] overloads in
+ * Sorting so that sorting never boxes.
+ *
+ * @author Sohum Gala
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface LongComparator {
+
+    /**
+     * Compares two long data.
+     * @param a the first data
+     * @param b the second data
+     * @return negative, zero or positive as a is less than, equal to or
+     * greater than b
+     */
+    int compare(long a, long b);
+}
@@ -1,6 +1,12 @@
+import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.LinkedList;
+import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * My Sorting Algorithms Implementations
@@ -11,6 +17,42 @@ import java.util.Random;
 
 public class Sorting {
 
+    /**
+     * Subarrays shorter than this are sorted with insertion sort inside the
+     * divide and conquer sorts.
+     */
+    public static final int INSERTION_SORT_CUTOFF = 32;
+
+    /**
+     * Subarrays at least this long are split across threads by the parallel
+     * sorts.
+     */
+    public static final int PARALLEL_THRESHOLD = 1 << 13;
+
+    /**
+     * Subarrays at least this long pick their introsort pivot with Tukey's
+     * ninther instead of median-of-three.
+     */
+    public static final int NINTHER_THRESHOLD = 128;
+
+    /**
+     * Arrays shorter than this are sorted by adaptiveMergeSort with a single
+     * binary insertion sort.
+     */
+    public static final int MIN_MERGE = 64;
+
+    /**
+     * The number of times in a row one run must win during a merge of
+     * adaptiveMergeSort before the merge switches to galloping.
+     */
+    public static final int MIN_GALLOP = 7;
+
+    /**
+     * The most nested bucket splits msdRadixSortByString makes before
+     * finishing a bucket with a comparison sort.
+     */
+    public static final int STRING_RADIX_DEPTH_LIMIT = 64;
+
     /**
      * insertion sort.
      * @param <T>        data type to sort
@@ -23,10 +65,22 @@ public class Sorting {
         if (arr == null || comparator == null) {
             throw new java.lang.IllegalArgumentException("input array or comparator cannot be null");
         }
-        for (int i = 1; i < arr.length; i++) {
+        insertionSort(arr, 0, arr.length, comparator);
+    }
+
+    /**
+     * private helper method that insertion sorts part of an array
+     * @param arr array being sorted
+     * @param start index of the first data to sort
+     * @param end index after the last data to sort
+     * @param comparator Comparator used to compare data in the array
+     * @param <T> data type to sort
+     */
+    private static <T> void insertionSort(T[] arr, int start, int end, Comparator<T> comparator) {
+        for (int i = start + 1; i < end; i++) {
             int j = i - 1;
             T temp = arr[i];
-            while (j >= 0 && comparator.compare(arr[j], temp) > 0) {
+            while (j >= start && comparator.compare(arr[j], temp) > 0) {
                 arr[j + 1] = arr[j];
                 j--;
             }
@@ -79,6 +133,11 @@ public class Sorting {
 
     /**
      * merge sort.
+     *
+     * Allocates a single scratch copy of the array and alternates between it
+     * and arr at each level, so no other arrays are created. Subarrays shorter
+     * than INSERTION_SORT_CUTOFF are insertion sorted, and merging is skipped
+     * when two halves are already in order.
      * @param <T>        data type to sort
      * @param arr        the array to be sorted
      * @param comparator the Comparator used to compare the data in arr
@@ -89,112 +148,1867 @@ public class Sorting {
         if (arr == null || comparator == null) {
             throw new java.lang.IllegalArgumentException("input array or comparator cannot be null");
         }
-        if (arr.length == 1 || arr.length == 0) {
+        if (arr.length < 2) {
+            return;
+        }
+        mergeSort(arr.clone(), arr, 0, arr.length, comparator, false);
+    }
+
+    /**
+     * parallel merge sort.
+     *
+     * Sorts like mergeSort, but on the given pool: the two halves of every
+     * subarray of at least PARALLEL_THRESHOLD data are sorted concurrently,
+     * and large merges are split in two around a binary searched position.
+     * The sort is stable.
+     * @param <T>        data type to sort
+     * @param arr        the array to be sorted
+     * @param comparator the Comparator used to compare the data in arr
+     * @param pool       the ForkJoinPool to sort on
+     * @throws java.lang.IllegalArgumentException if the array, comparator, or
+     *                                            pool is null
+     */
+    public static <T> void parallelMergeSort(T[] arr, Comparator<T> comparator, ForkJoinPool pool) {
+        if (arr == null || comparator == null || pool == null) {
+            throw new java.lang.IllegalArgumentException("input array, comparator, or pool cannot be null");
+        }
+        if (arr.length < 2) {
+            return;
+        }
+        T[] scratch = arr.clone();
+        pool.invoke(ForkJoinTask.adapt(() -> mergeSort(scratch, arr, 0, arr.length, comparator, true)));
+    }
+
+    /**
+     * private recursive helper method to perform merge sort
+     * @param src array holding the same data as dst in the range, used as
+     *            scratch space
+     * @param dst array the sorted range is written to
+     * @param start index of the first data to sort
+     * @param end index after the last data to sort
+     * @param comparator Comparator used to compare data in the array
+     * @param parallel whether to fork large halves and merges
+     * @param <T> data type to sort
+     */
+    private static <T> void mergeSort(T[] src, T[] dst, int start, int end, Comparator<T> comparator,
+                                      boolean parallel) {
+        if (end - start < INSERTION_SORT_CUTOFF) {
+            insertionSort(dst, start, end, comparator);
+            return;
+        }
+        int mid = (start + end) >>> 1;
+        // sort each half of dst into src, then merge the halves back into dst
+        if (parallel && end - start >= PARALLEL_THRESHOLD) {
+            ForkJoinTask<?> left = ForkJoinTask.adapt(() -> mergeSort(dst, src, start, mid, comparator, true)).fork();
+            mergeSort(dst, src, mid, end, comparator, true);
+            left.join();
+        } else {
+            mergeSort(dst, src, start, mid, comparator, parallel);
+            mergeSort(dst, src, mid, end, comparator, parallel);
+        }
+        if (comparator.compare(src[mid - 1], src[mid]) <= 0) {
+            System.arraycopy(src, start, dst, start, end - start);
+        } else if (parallel) {
+            parallelMerge(src, start, mid, mid, end, dst, start, comparator);
+        } else {
+            merge(src, start, mid, mid, end, dst, start, comparator);
+        }
+    }
+
+    /**
+     * private helper method that merges two sorted runs of src into dst,
+     * taking from the first run on ties
+     * @param src array holding both runs
+     * @param start1 index of the first data in the first run
+     * @param end1 index after the last data in the first run
+     * @param start2 index of the first data in the second run
+     * @param end2 index after the last data in the second run
+     * @param dst array to merge into
+     * @param index index in dst to write the first merged data to
+     * @param comparator Comparator used to compare data in the array
+     * @param <T> data type to sort
+     */
+    private static <T> void merge(T[] src, int start1, int end1, int start2, int end2, T[] dst, int index,
+                                  Comparator<T> comparator) {
+        int i = start1;
+        int j = start2;
+        while (i < end1 && j < end2) {
+            if (comparator.compare(src[i], src[j]) <= 0) {
+                dst[index++] = src[i++];
+            } else {
+                dst[index++] = src[j++];
+            }
+        }
+        System.arraycopy(src, i, dst, index, end1 - i);
+        System.arraycopy(src, j, dst, index + end1 - i, end2 - j);
+    }
+
+    /**
+     * private helper method that merges two sorted runs of src into dst in
+     * parallel. The middle data of the longer run is placed directly, and the
+     * data on each side of it are merged concurrently.
+     * @param src array holding both runs
+     * @param start1 index of the first data in the first run
+     * @param end1 index after the last data in the first run
+     * @param start2 index of the first data in the second run
+     * @param end2 index after the last data in the second run
+     * @param dst array to merge into
+     * @param index index in dst to write the first merged data to
+     * @param comparator Comparator used to compare data in the array
+     * @param <T> data type to sort
+     */
+    private static <T> void parallelMerge(T[] src, int start1, int end1, int start2, int end2, T[] dst,
+                                          int index, Comparator<T> comparator) {
+        int length1 = end1 - start1;
+        int length2 = end2 - start2;
+        if (length1 + length2 < PARALLEL_THRESHOLD) {
+            merge(src, start1, end1, start2, end2, dst, index, comparator);
+            return;
+        }
+        int mid1;
+        int mid2;
+        int next1;
+        int next2;
+        if (length1 >= length2) {
+            // data in the second run equal to the pivot must stay after it
+            mid1 = (start1 + end1) >>> 1;
+            mid2 = search(src, start2, end2, src[mid1], comparator, false);
+            dst[index + (mid1 - start1) + (mid2 - start2)] = src[mid1];
+            next1 = mid1 + 1;
+            next2 = mid2;
+        } else {
+            // data in the first run equal to the pivot must stay before it
+            mid2 = (start2 + end2) >>> 1;
+            mid1 = search(src, start1, end1, src[mid2], comparator, true);
+            dst[index + (mid1 - start1) + (mid2 - start2)] = src[mid2];
+            next1 = mid1;
+            next2 = mid2 + 1;
+        }
+        int mid1Final = mid1;
+        int mid2Final = mid2;
+        ForkJoinTask<?> left = ForkJoinTask.adapt(() -> parallelMerge(src, start1, mid1Final, start2, mid2Final,
+                dst, index, comparator)).fork();
+        parallelMerge(src, next1, end1, next2, end2, dst, index + (mid1 - start1) + (mid2 - start2) + 1,
+                comparator);
+        left.join();
+    }
+
+    /**
+     * private helper method that binary searches a sorted run for where key
+     * would be inserted
+     * @param arr array holding the run
+     * @param start index of the first data in the run
+     * @param end index after the last data in the run
+     * @param key data to search for
+     * @param comparator Comparator used to compare data in the array
+     * @param afterEqual true to return the index after any data equal to key,
+     *                   false to return the index before them
+     * @param <T> data type to sort
+     * @return the insertion index of key in the run
+     */
+    private static <T> int search(T[] arr, int start, int end, T key, Comparator<T> comparator,
+                                  boolean afterEqual) {
+        while (start < end) {
+            int mid = (start + end) >>> 1;
+            int comparison = comparator.compare(arr[mid], key);
+            if (comparison < 0 || (afterEqual && comparison == 0)) {
+                start = mid + 1;
+            } else {
+                end = mid;
+            }
+        }
+        return start;
+    }
+
+    /**
+     * adaptive merge sort, in the style of TimSort.
+     *
+     * Walks the array once to find runs that are already ascending, or
+     * strictly descending and reversed in place, and extends short runs to a
+     * minimum length with binary insertion sort. Runs are merged off a stack
+     * that keeps their lengths growing like the Fibonacci numbers, so merges
+     * stay balanced. While merging, once one run wins MIN_GALLOP times in a
+     * row the merge gallops, moving whole blocks found by exponential search.
+     * Sorted or reverse sorted input takes n - 1 comparisons, and the sort is
+     * stable.
+     * @param <T>        data type to sort
+     * @param arr        the array to be sorted
+     * @param comparator the Comparator used to compare the data in arr
+     * @throws java.lang.IllegalArgumentException if the array or comparator is
+     *                                            null
+     */
+    public static <T> void adaptiveMergeSort(T[] arr, Comparator<T> comparator) {
+        if (arr == null || comparator == null) {
+            throw new java.lang.IllegalArgumentException("input array or comparator cannot be null");
+        }
+        int n = arr.length;
+        if (n < 2) {
+            return;
+        }
+        if (n < MIN_MERGE) {
+            binaryInsertionSort(arr, 0, n, countRun(arr, 0, n, comparator), comparator);
+            return;
+        }
+        int minRun = minRunLength(n);
+        @SuppressWarnings("unchecked")
+        T[] temp = (T[]) new Object[n / 2];
+        // run lengths on the stack grow at least as fast as the Fibonacci numbers
+        int[] runBase = new int[85];
+        int[] runLength = new int[85];
+        int stackSize = 0;
+        int start = 0;
+        while (start < n) {
+            int length = countRun(arr, start, n, comparator);
+            if (length < minRun) {
+                int forced = Math.min(minRun, n - start);
+                binaryInsertionSort(arr, start, start + forced, start + length, comparator);
+                length = forced;
+            }
+            runBase[stackSize] = start;
+            runLength[stackSize] = length;
+            stackSize++;
+            stackSize = mergeCollapse(arr, temp, runBase, runLength, stackSize, comparator);
+            start += length;
+        }
+        while (stackSize > 1) {
+            int i = stackSize - 2;
+            if (i > 0 && runLength[i - 1] < runLength[i + 1]) {
+                i--;
+            }
+            mergeAt(arr, temp, runBase, runLength, stackSize, i, comparator);
+            stackSize--;
+        }
+    }
+
+    /**
+     * private helper method that picks the minimum run length for
+     * adaptiveMergeSort, so that n / minRun is a power of two or just below
+     * one
+     * @param n the length of the array
+     * @return the minimum run length, between MIN_MERGE / 2 and MIN_MERGE
+     */
+    private static int minRunLength(int n) {
+        int remainder = 0;
+        while (n >= MIN_MERGE) {
+            remainder |= n & 1;
+            n >>= 1;
+        }
+        return n + remainder;
+    }
+
+    /**
+     * private helper method that finds the length of the run starting at
+     * start, reversing it if it is strictly descending
+     * @param arr array being sorted
+     * @param start index of the first data in the run
+     * @param end index after the last data that may be in the run
+     * @param comparator Comparator used to compare data in the array
+     * @param <T> data type to sort
+     * @return the length of the run, which is now ascending
+     */
+    private static <T> int countRun(T[] arr, int start, int end, Comparator<T> comparator) {
+        int runEnd = start + 1;
+        if (runEnd == end) {
+            return 1;
+        }
+        if (comparator.compare(arr[runEnd++], arr[start]) < 0) {
+            // only strictly descending runs are reversed, which keeps the sort stable
+            while (runEnd < end && comparator.compare(arr[runEnd], arr[runEnd - 1]) < 0) {
+                runEnd++;
+            }
+            for (int i = start, j = runEnd - 1; i < j; i++, j--) {
+                swap(arr, i, j);
+            }
+        } else {
+            while (runEnd < end && comparator.compare(arr[runEnd], arr[runEnd - 1]) >= 0) {
+                runEnd++;
+            }
+        }
+        return runEnd - start;
+    }
+
+    /**
+     * private helper method that binary insertion sorts part of an array
+     * whose beginning is already sorted
+     * @param arr array being sorted
+     * @param start index of the first data to sort
+     * @param end index after the last data to sort
+     * @param sorted index of the first data that is not yet sorted
+     * @param comparator Comparator used to compare data in the array
+     * @param <T> data type to sort
+     */
+    private static <T> void binaryInsertionSort(T[] arr, int start, int end, int sorted,
+                                                Comparator<T> comparator) {
+        for (int i = sorted; i < end; i++) {
+            T temp = arr[i];
+            int index = search(arr, start, i, temp, comparator, true);
+            System.arraycopy(arr, index, arr, index + 1, i - index);
+            arr[index] = temp;
+        }
+    }
+
+    /**
+     * private helper method that merges runs at the top of the stack until
+     * every run is longer than the two above it combined
+     * @param arr array being sorted
+     * @param temp scratch space for merging
+     * @param runBase start index of each run on the stack
+     * @param runLength length of each run on the stack
+     * @param stackSize number of runs on the stack
+     * @param comparator Comparator used to compare data in the array
+     * @param <T> data type to sort
+     * @return the number of runs left on the stack
+     */
+    private static <T> int mergeCollapse(T[] arr, T[] temp, int[] runBase, int[] runLength, int stackSize,
+                                         Comparator<T> comparator) {
+        while (stackSize > 1) {
+            int i = stackSize - 2;
+            if ((i > 0 && runLength[i - 1] <= runLength[i] + runLength[i + 1])
+                    || (i > 1 && runLength[i - 2] <= runLength[i - 1] + runLength[i])) {
+                if (runLength[i - 1] < runLength[i + 1]) {
+                    i--;
+                }
+            } else if (runLength[i] > runLength[i + 1]) {
+                break;
+            }
+            mergeAt(arr, temp, runBase, runLength, stackSize, i, comparator);
+            stackSize--;
+        }
+        return stackSize;
+    }
+
+    /**
+     * private helper method that merges runs i and i + 1 of the stack. Data
+     * at the start of the first run and the end of the second run that are
+     * already in place are skipped before merging.
+     * @param arr array being sorted
+     * @param temp scratch space for merging
+     * @param runBase start index of each run on the stack
+     * @param runLength length of each run on the stack
+     * @param stackSize number of runs on the stack, one more than after the
+     *                  merge
+     * @param i index on the stack of the first run to merge
+     * @param comparator Comparator used to compare data in the array
+     * @param <T> data type to sort
+     */
+    private static <T> void mergeAt(T[] arr, T[] temp, int[] runBase, int[] runLength, int stackSize, int i,
+                                    Comparator<T> comparator) {
+        int base1 = runBase[i];
+        int length1 = runLength[i];
+        int base2 = runBase[i + 1];
+        int length2 = runLength[i + 1];
+        runLength[i] = length1 + length2;
+        if (i == stackSize - 3) {
+            runBase[i + 1] = runBase[i + 2];
+            runLength[i + 1] = runLength[i + 2];
+        }
+        int skip = gallop(arr, base1, base1 + length1, arr[base2], comparator, true, false) - base1;
+        base1 += skip;
+        length1 -= skip;
+        if (length1 == 0) {
             return;
         }
-        int length = arr.length;
-        int midInd = length / 2;
-        T[] left = (T[]) new Object[midInd];
-        for (int i = 0; i < midInd; i++) {
-            left[i] = arr[i];
+        length2 = gallop(arr, base2, base2 + length2, arr[base1 + length1 - 1], comparator, false, true) - base2;
+        if (length2 == 0) {
+            return;
         }
-        T[] right = (T[]) new Object[length - midInd];
-        for (int i = 0; i < length - midInd; i++) {
-            right[i] = arr[i + midInd];
+        if (length1 <= length2) {
+            mergeLow(arr, temp, base1, length1, base2, length2, comparator);
+        } else {
+            mergeHigh(arr, temp, base1, length1, base2, length2, comparator);
         }
-        mergeSort(left, comparator);
-        mergeSort(right, comparator);
+    }
+
+    /**
+     * private helper method that merges two adjacent runs front to back,
+     * copying the shorter first run into temp
+     * @param arr array being sorted
+     * @param temp scratch space holding at least length1 data
+     * @param base1 index of the first data in the first run
+     * @param length1 length of the first run
+     * @param base2 index of the first data in the second run
+     * @param length2 length of the second run
+     * @param comparator Comparator used to compare data in the array
+     * @param <T> data type to sort
+     */
+    private static <T> void mergeLow(T[] arr, T[] temp, int base1, int length1, int base2, int length2,
+                                     Comparator<T> comparator) {
+        System.arraycopy(arr, base1, temp, 0, length1);
         int i = 0;
-        int j = 0;
-        while (i < left.length && j < right.length) {
-            if (comparator.compare(left[i], right[j]) <= 0) {
-                arr[i + j] = left[i];
-                i++;
+        int j = base2;
+        int end2 = base2 + length2;
+        int index = base1;
+        int wins1 = 0;
+        int wins2 = 0;
+        while (i < length1 && j < end2) {
+            if (comparator.compare(arr[j], temp[i]) < 0) {
+                arr[index++] = arr[j++];
+                wins2++;
+                wins1 = 0;
+            } else {
+                arr[index++] = temp[i++];
+                wins1++;
+                wins2 = 0;
+            }
+            if (wins1 >= MIN_GALLOP && j < end2) {
+                int count = gallop(temp, i, length1, arr[j], comparator, true, false) - i;
+                System.arraycopy(temp, i, arr, index, count);
+                i += count;
+                index += count;
+                wins1 = 0;
+            } else if (wins2 >= MIN_GALLOP && i < length1) {
+                int count = gallop(arr, j, end2, temp[i], comparator, false, false) - j;
+                System.arraycopy(arr, j, arr, index, count);
+                j += count;
+                index += count;
+                wins2 = 0;
+            }
+        }
+        // anything left in the second run is already in place
+        System.arraycopy(temp, i, arr, index, length1 - i);
+    }
+
+    /**
+     * private helper method that merges two adjacent runs back to front,
+     * copying the shorter second run into temp
+     * @param arr array being sorted
+     * @param temp scratch space holding at least length2 data
+     * @param base1 index of the first data in the first run
+     * @param length1 length of the first run
+     * @param base2 index of the first data in the second run
+     * @param length2 length of the second run
+     * @param comparator Comparator used to compare data in the array
+     * @param <T> data type to sort
+     */
+    private static <T> void mergeHigh(T[] arr, T[] temp, int base1, int length1, int base2, int length2,
+                                      Comparator<T> comparator) {
+        System.arraycopy(arr, base2, temp, 0, length2);
+        int i = base1 + length1 - 1;
+        int j = length2 - 1;
+        int index = base2 + length2 - 1;
+        int wins1 = 0;
+        int wins2 = 0;
+        while (i >= base1 && j >= 0) {
+            if (comparator.compare(temp[j], arr[i]) < 0) {
+                arr[index--] = arr[i--];
+                wins1++;
+                wins2 = 0;
             } else {
-                arr[i + j] = right[j];
-                j++;
+                arr[index--] = temp[j--];
+                wins2++;
+                wins1 = 0;
+            }
+            if (wins1 >= MIN_GALLOP && j >= 0) {
+                int count = i + 1 - gallop(arr, base1, i + 1, temp[j], comparator, true, true);
+                index -= count;
+                i -= count;
+                System.arraycopy(arr, i + 1, arr, index + 1, count);
+                wins1 = 0;
+            } else if (wins2 >= MIN_GALLOP && i >= base1) {
+                int count = j + 1 - gallop(temp, 0, j + 1, arr[i], comparator, false, true);
+                index -= count;
+                j -= count;
+                System.arraycopy(temp, j + 1, arr, index + 1, count);
+                wins2 = 0;
             }
         }
-        while (i < left.length) {
-            arr[i + j] = left[i];
-            i++;
+        // anything left in the first run is already in place
+        System.arraycopy(temp, 0, arr, index - j, j + 1);
+    }
+
+    /**
+     * private helper method that finds where key would be inserted into a
+     * sorted run, probing exponentially from one end before binary searching
+     * @param arr array holding the run
+     * @param start index of the first data in the run
+     * @param end index after the last data in the run
+     * @param key data to search for
+     * @param comparator Comparator used to compare data in the array
+     * @param afterEqual true to return the index after any data equal to key,
+     *                   false to return the index before them
+     * @param fromEnd true to probe from the end of the run, false to probe
+     *                from the start
+     * @param <T> data type to sort
+     * @return the insertion index of key in the run
+     */
+    private static <T> int gallop(T[] arr, int start, int end, T key, Comparator<T> comparator,
+                                  boolean afterEqual, boolean fromEnd) {
+        int step = 1;
+        if (fromEnd) {
+            // every data in [known, end) goes after key
+            int known = end;
+            int probe = end - 1;
+            while (probe >= start && !goesBefore(arr[probe], key, comparator, afterEqual)) {
+                known = probe;
+                probe = known - 1 - step;
+                step <<= 1;
+            }
+            return search(arr, Math.max(probe + 1, start), known, key, comparator, afterEqual);
         }
-        while (j < right.length) {
-            arr[i + j] = right[j];
-            j++;
+        // every data in [start, known) goes before key
+        int known = start;
+        int probe = start;
+        while (probe < end && goesBefore(arr[probe], key, comparator, afterEqual)) {
+            known = probe + 1;
+            probe = known + step;
+            step <<= 1;
         }
+        return search(arr, known, Math.min(probe, end), key, comparator, afterEqual);
     }
 
     /**
-     * LSD (least significant digit) radix sort.
-     * @param arr the array to be sorted
+     * private helper method that decides whether data in a sorted run comes
+     * before the insertion index of key
+     * @param data the data in the run
+     * @param key data being searched for
+     * @param comparator Comparator used to compare data in the array
+     * @param afterEqual whether data equal to key comes before the index
+     * @param <T> data type to sort
+     * @return true if data comes before the insertion index of key
+     */
+    private static <T> boolean goesBefore(T data, T key, Comparator<T> comparator, boolean afterEqual) {
+        int comparison = comparator.compare(data, key);
+        return comparison < 0 || (afterEqual && comparison == 0);
+    }
+
+    /**
+     * insertion sort of primitive int data in natural order.
+     * @param arr the array that must be sorted after the method runs
      * @throws java.lang.IllegalArgumentException if the array is null
      */
-    public static void lsdRadixSort(int[] arr) {
+    public static void insertionSort(int[] arr) {
         if (arr == null) {
             throw new java.lang.IllegalArgumentException("cannot sort null array");
         }
-        LinkedList<Integer>[] buckets = (LinkedList<Integer>[]) new LinkedList[19];
-        for (int i = 0; i < 19; i++) {
-            buckets[i] = new LinkedList<>();
-        }
-        int mod = 10;
-        int div = 1;
-        boolean cont = true;
-        while (cont) {
-            cont = false;
-            for (int i = 0; i < arr.length; i++) {
-                int bucket = arr[i] / div;
-                if (bucket / 10 != 0) {
-                    cont = true;
-                }
-                buckets[bucket % mod + 9].add(arr[i]);
+        insertionSort(arr, 0, arr.length);
+    }
+
+    /**
+     * insertion sort of primitive int data.
+     * @param arr        the array that must be sorted after the method runs
+     * @param comparator the IntComparator used to compare the data in arr
+     * @throws java.lang.IllegalArgumentException if the array or comparator is
+     *                                            null
+     */
+    public static void insertionSort(int[] arr, IntComparator comparator) {
+        if (arr == null || comparator == null) {
+            throw new java.lang.IllegalArgumentException("input array or comparator cannot be null");
+        }
+        insertionSort(arr, 0, arr.length, comparator);
+    }
+
+    /**
+     * private helper method that insertion sorts part of an int array
+     * @param arr array being sorted
+     * @param start index of the first data to sort
+     * @param end index after the last data to sort
+     * @param comparator IntComparator used to compare data in the array
+     */
+    private static void insertionSort(int[] arr, int start, int end, IntComparator comparator) {
+        for (int i = start + 1; i < end; i++) {
+            int j = i - 1;
+            int temp = arr[i];
+            while (j >= start && comparator.compare(arr[j], temp) > 0) {
+                arr[j + 1] = arr[j];
+                j--;
             }
-            int idx = 0;
-            for (int i = 0; i < buckets.length; i++) {
-                for (int num : buckets[i]) {
-                    arr[idx++] = num;
-                }
-                buckets[i].clear();
+            arr[j + 1] = temp;
+        }
+    }
+
+    /**
+     * merge sort of primitive int data in natural order.
+     * @param arr the array to be sorted
+     * @throws java.lang.IllegalArgumentException if the array is null
+     */
+    public static void mergeSort(int[] arr) {
+        if (arr == null) {
+            throw new java.lang.IllegalArgumentException("cannot sort null array");
+        }
+        if (arr.length < 2) {
+            return;
+        }
+        mergeSort(arr.clone(), arr, 0, arr.length);
+    }
+
+    /**
+     * merge sort of primitive int data.
+     *
+     * Works like the object mergeSort, with one scratch copy of the array.
+     * The sort is stable.
+     * @param arr        the array to be sorted
+     * @param comparator the IntComparator used to compare the data in arr
+     * @throws java.lang.IllegalArgumentException if the array or comparator is
+     *                                            null
+     */
+    public static void mergeSort(int[] arr, IntComparator comparator) {
+        if (arr == null || comparator == null) {
+            throw new java.lang.IllegalArgumentException("input array or comparator cannot be null");
+        }
+        if (arr.length < 2) {
+            return;
+        }
+        mergeSort(arr.clone(), arr, 0, arr.length, comparator);
+    }
+
+    /**
+     * private recursive helper method to perform merge sort on int data
+     * @param src array holding the same data as dst in the range, used as
+     *            scratch space
+     * @param dst array the sorted range is written to
+     * @param start index of the first data to sort
+     * @param end index after the last data to sort
+     * @param comparator IntComparator used to compare data in the array
+     */
+    private static void mergeSort(int[] src, int[] dst, int start, int end, IntComparator comparator) {
+        if (end - start < INSERTION_SORT_CUTOFF) {
+            insertionSort(dst, start, end, comparator);
+            return;
+        }
+        int mid = (start + end) >>> 1;
+        mergeSort(dst, src, start, mid, comparator);
+        mergeSort(dst, src, mid, end, comparator);
+        if (comparator.compare(src[mid - 1], src[mid]) <= 0) {
+            System.arraycopy(src, start, dst, start, end - start);
+            return;
+        }
+        int i = start;
+        int j = mid;
+        int index = start;
+        while (i < mid && j < end) {
+            if (comparator.compare(src[i], src[j]) <= 0) {
+                dst[index++] = src[i++];
+            } else {
+                dst[index++] = src[j++];
             }
-            div *= 10;
         }
+        System.arraycopy(src, i, dst, index, mid - i);
+        System.arraycopy(src, j, dst, index + mid - i, end - j);
     }
 
     /**
-     * quick sort.
-     * @param <T>        data type to sort
+     * quick sort of primitive int data in natural order.
+     * @param arr  the array that must be sorted after the method runs
+     * @param rand the Random object used to select pivots
+     * @throws java.lang.IllegalArgumentException if the array or rand is null
+     */
+    public static void quickSort(int[] arr, Random rand) {
+        if (arr == null || rand == null) {
+            throw new java.lang.IllegalArgumentException("input array or rand cannot be null");
+        }
+        quickSort(arr, 0, arr.length, rand);
+    }
+
+    /**
+     * quick sort of primitive int data.
+     *
+     * Partitions three ways around a random pivot and only recurses on the
+     * smaller side, so duplicates are handled in one pass and the stack stays
+     * O(log n).
      * @param arr        the array that must be sorted after the method runs
-     * @param comparator the Comparator used to compare the data in arr
+     * @param comparator the IntComparator used to compare the data in arr
      * @param rand       the Random object used to select pivots
      * @throws java.lang.IllegalArgumentException if the array or comparator or
      *                                            rand is null
      */
-    public static <T> void quickSort(T[] arr, Comparator<T> comparator,
-                                     Random rand) {
+    public static void quickSort(int[] arr, IntComparator comparator, Random rand) {
         if (arr == null || comparator == null || rand == null) {
             throw new java.lang.IllegalArgumentException("input array, comparator, or rand cannot be null");
         }
-        quickSort(arr, 0, arr.length - 1, comparator, rand);
+        quickSort(arr, 0, arr.length, comparator, rand);
     }
 
     /**
-     * private recursive helper method to perform quick sort
+     * private helper method to perform quick sort on int data
      * @param arr array being sorted
-     * @param start starting index of iteration
-     * @param end ending index of iteration
-     * @param comparator Comparator used to compare data in the array
+     * @param start index of the first data to sort
+     * @param end index after the last data to sort
+     * @param comparator IntComparator used to compare data in the array
      * @param rand Random object used to select pivots
-     * @param <T> data type to sort
      */
-    private static <T> void quickSort(T[] arr, int start, int end, Comparator<T> comparator, Random rand) {
-        if ((end - start) < 1) {
-            return;
+    private static void quickSort(int[] arr, int start, int end, IntComparator comparator, Random rand) {
+        while (end - start >= INSERTION_SORT_CUTOFF) {
+            int pivotValue = arr[start + rand.nextInt(end - start)];
+            // [start, lt) < pivot, [lt, i) == pivot, (gt, end) > pivot
+            int lt = start;
+            int i = start;
+            int gt = end - 1;
+            while (i <= gt) {
+                int comparison = comparator.compare(arr[i], pivotValue);
+                if (comparison < 0) {
+                    int temp = arr[lt];
+                    arr[lt++] = arr[i];
+                    arr[i++] = temp;
+                } else if (comparison > 0) {
+                    int temp = arr[gt];
+                    arr[gt--] = arr[i];
+                    arr[i] = temp;
+                } else {
+                    i++;
+                }
+            }
+            if (lt - start < end - gt - 1) {
+                quickSort(arr, start, lt, comparator, rand);
+                start = gt + 1;
+            } else {
+                quickSort(arr, gt + 1, end, comparator, rand);
+                end = lt;
+            }
         }
-        int pivotIndex = rand.nextInt(end - start + 1) + start;
-        T pivotValue = arr[pivotIndex];
-        arr[pivotIndex] = arr[start];
-        arr[start] = pivotValue;
+        insertionSort(arr, start, end, comparator);
+    }
+
+    /**
+     * private helper method that insertion sorts part of an int array in
+     * natural order
+     * @param arr array being sorted
+     * @param start index of the first data to sort
+     * @param end index after the last data to sort
+     */
+    private static void insertionSort(int[] arr, int start, int end) {
+        for (int i = start + 1; i < end; i++) {
+            int j = i - 1;
+            int temp = arr[i];
+            while (j >= start && arr[j] > temp) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = temp;
+        }
+    }
+
+    /**
+     * private recursive helper method to perform merge sort on int data in
+     * natural order
+     * @param src array holding the same data as dst in the range, used as
+     *            scratch space
+     * @param dst array the sorted range is written to
+     * @param start index of the first data to sort
+     * @param end index after the last data to sort
+     */
+    private static void mergeSort(int[] src, int[] dst, int start, int end) {
+        if (end - start < INSERTION_SORT_CUTOFF) {
+            insertionSort(dst, start, end);
+            return;
+        }
+        int mid = (start + end) >>> 1;
+        mergeSort(dst, src, start, mid);
+        mergeSort(dst, src, mid, end);
+        if (src[mid - 1] <= src[mid]) {
+            System.arraycopy(src, start, dst, start, end - start);
+            return;
+        }
+        int i = start;
+        int j = mid;
+        int index = start;
+        while (i < mid && j < end) {
+            if (src[i] <= src[j]) {
+                dst[index++] = src[i++];
+            } else {
+                dst[index++] = src[j++];
+            }
+        }
+        System.arraycopy(src, i, dst, index, mid - i);
+        System.arraycopy(src, j, dst, index + mid - i, end - j);
+    }
+
+    /**
+     * private helper method to perform quick sort on int data in natural
+     * order
+     * @param arr array being sorted
+     * @param start index of the first data to sort
+     * @param end index after the last data to sort
+     * @param rand Random object used to select pivots
+     */
+    private static void quickSort(int[] arr, int start, int end, Random rand) {
+        while (end - start >= INSERTION_SORT_CUTOFF) {
+            int pivotValue = arr[start + rand.nextInt(end - start)];
+            // [start, lt) < pivot, [lt, i) == pivot, (gt, end) > pivot
+            int lt = start;
+            int i = start;
+            int gt = end - 1;
+            while (i <= gt) {
+                if (arr[i] < pivotValue) {
+                    int temp = arr[lt];
+                    arr[lt++] = arr[i];
+                    arr[i++] = temp;
+                } else if (arr[i] > pivotValue) {
+                    int temp = arr[gt];
+                    arr[gt--] = arr[i];
+                    arr[i] = temp;
+                } else {
+                    i++;
+                }
+            }
+            if (lt - start < end - gt - 1) {
+                quickSort(arr, start, lt, rand);
+                start = gt + 1;
+            } else {
+                quickSort(arr, gt + 1, end, rand);
+                end = lt;
+            }
+        }
+        insertionSort(arr, start, end);
+    }
+
+    /**
+     * insertion sort of primitive long data in natural order.
+     * @param arr the array that must be sorted after the method runs
+     * @throws java.lang.IllegalArgumentException if the array is null
+     */
+    public static void insertionSort(long[] arr) {
+        if (arr == null) {
+            throw new java.lang.IllegalArgumentException("cannot sort null array");
+        }
+        insertionSort(arr, 0, arr.length);
+    }
+
+    /**
+     * insertion sort of primitive long data.
+     * @param arr        the array that must be sorted after the method runs
+     * @param comparator the LongComparator used to compare the data in arr
+     * @throws java.lang.IllegalArgumentException if the array or comparator is
+     *                                            null
+     */
+    public static void insertionSort(long[] arr, LongComparator comparator) {
+        if (arr == null || comparator == null) {
+            throw new java.lang.IllegalArgumentException("input array or comparator cannot be null");
+        }
+        insertionSort(arr, 0, arr.length, comparator);
+    }
+
+    /**
+     * private helper method that insertion sorts part of a long array
+     * @param arr array being sorted
+     * @param start index of the first data to sort
+     * @param end index after the last data to sort
+     * @param comparator LongComparator used to compare data in the array
+     */
+    private static void insertionSort(long[] arr, int start, int end, LongComparator comparator) {
+        for (int i = start + 1; i < end; i++) {
+            int j = i - 1;
+            long temp = arr[i];
+            while (j >= start && comparator.compare(arr[j], temp) > 0) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = temp;
+        }
+    }
+
+    /**
+     * merge sort of primitive long data in natural order.
+     * @param arr the array to be sorted
+     * @throws java.lang.IllegalArgumentException if the array is null
+     */
+    public static void mergeSort(long[] arr) {
+        if (arr == null) {
+            throw new java.lang.IllegalArgumentException("cannot sort null array");
+        }
+        if (arr.length < 2) {
+            return;
+        }
+        mergeSort(arr.clone(), arr, 0, arr.length);
+    }
+
+    /**
+     * merge sort of primitive long data.
+     *
+     * Works like the object mergeSort, with one scratch copy of the array.
+     * The sort is stable.
+     * @param arr        the array to be sorted
+     * @param comparator the LongComparator used to compare the data in arr
+     * @throws java.lang.IllegalArgumentException if the array or comparator is
+     *                                            null
+     */
+    public static void mergeSort(long[] arr, LongComparator comparator) {
+        if (arr == null || comparator == null) {
+            throw new java.lang.IllegalArgumentException("input array or comparator cannot be null");
+        }
+        if (arr.length < 2) {
+            return;
+        }
+        mergeSort(arr.clone(), arr, 0, arr.length, comparator);
+    }
+
+    /**
+     * private recursive helper method to perform merge sort on long data
+     * @param src array holding the same data as dst in the range, used as
+     *            scratch space
+     * @param dst array the sorted range is written to
+     * @param start index of the first data to sort
+     * @param end index after the last data to sort
+     * @param comparator LongComparator used to compare data in the array
+     */
+    private static void mergeSort(long[] src, long[] dst, int start, int end, LongComparator comparator) {
+        if (end - start < INSERTION_SORT_CUTOFF) {
+            insertionSort(dst, start, end, comparator);
+            return;
+        }
+        int mid = (start + end) >>> 1;
+        mergeSort(dst, src, start, mid, comparator);
+        mergeSort(dst, src, mid, end, comparator);
+        if (comparator.compare(src[mid - 1], src[mid]) <= 0) {
+            System.arraycopy(src, start, dst, start, end - start);
+            return;
+        }
+        int i = start;
+        int j = mid;
+        int index = start;
+        while (i < mid && j < end) {
+            if (comparator.compare(src[i], src[j]) <= 0) {
+                dst[index++] = src[i++];
+            } else {
+                dst[index++] = src[j++];
+            }
+        }
+        System.arraycopy(src, i, dst, index, mid - i);
+        System.arraycopy(src, j, dst, index + mid - i, end - j);
+    }
+
+    /**
+     * quick sort of primitive long data in natural order.
+     * @param arr  the array that must be sorted after the method runs
+     * @param rand the Random object used to select pivots
+     * @throws java.lang.IllegalArgumentException if the array or rand is null
+     */
+    public static void quickSort(long[] arr, Random rand) {
+        if (arr == null || rand == null) {
+            throw new java.lang.IllegalArgumentException("input array or rand cannot be null");
+        }
+        quickSort(arr, 0, arr.length, rand);
+    }
+
+    /**
+     * quick sort of primitive long data.
+     *
+     * Partitions three ways around a random pivot and only recurses on the
+     * smaller side, so duplicates are handled in one pass and the stack stays
+     * O(log n).
+     * @param arr        the array that must be sorted after the method runs
+     * @param comparator the LongComparator used to compare the data in arr
+     * @param rand       the Random object used to select pivots
+     * @throws java.lang.IllegalArgumentException if the array or comparator or
+     *                                            rand is null
+     */
+    public static void quickSort(long[] arr, LongComparator comparator, Random rand) {
+        if (arr == null || comparator == null || rand == null) {
+            throw new java.lang.IllegalArgumentException("input array, comparator, or rand cannot be null");
+        }
+        quickSort(arr, 0, arr.length, comparator, rand);
+    }
+
+    /**
+     * private helper method to perform quick sort on long data
+     * @param arr array being sorted
+     * @param start index of the first data to sort
+     * @param end index after the last data to sort
+     * @param comparator LongComparator used to compare data in the array
+     * @param rand Random object used to select pivots
+     */
+    private static void quickSort(long[] arr, int start, int end, LongComparator comparator, Random rand) {
+        while (end - start >= INSERTION_SORT_CUTOFF) {
+            long pivotValue = arr[start + rand.nextInt(end - start)];
+            // [start, lt) < pivot, [lt, i) == pivot, (gt, end) > pivot
+            int lt = start;
+            int i = start;
+            int gt = end - 1;
+            while (i <= gt) {
+                int comparison = comparator.compare(arr[i], pivotValue);
+                if (comparison < 0) {
+                    long temp = arr[lt];
+                    arr[lt++] = arr[i];
+                    arr[i++] = temp;
+                } else if (comparison > 0) {
+                    long temp = arr[gt];
+                    arr[gt--] = arr[i];
+                    arr[i] = temp;
+                } else {
+                    i++;
+                }
+            }
+            if (lt - start < end - gt - 1) {
+                quickSort(arr, start, lt, comparator, rand);
+                start = gt + 1;
+            } else {
+                quickSort(arr, gt + 1, end, comparator, rand);
+                end = lt;
+            }
+        }
+        insertionSort(arr, start, end, comparator);
+    }
+
+    /**
+     * private helper method that insertion sorts part of a long array in
+     * natural order
+     * @param arr array being sorted
+     * @param start index of the first data to sort
+     * @param end index after the last data to sort
+     */
+    private static void insertionSort(long[] arr, int start, int end) {
+        for (int i = start + 1; i < end; i++) {
+            int j = i - 1;
+            long temp = arr[i];
+            while (j >= start && arr[j] > temp) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = temp;
+        }
+    }
+
+    /**
+     * private recursive helper method to perform merge sort on long data in
+     * natural order
+     * @param src array holding the same data as dst in the range, used as
+     *            scratch space
+     * @param dst array the sorted range is written to
+     * @param start index of the first data to sort
+     * @param end index after the last data to sort
+     */
+    private static void mergeSort(long[] src, long[] dst, int start, int end) {
+        if (end - start < INSERTION_SORT_CUTOFF) {
+            insertionSort(dst, start, end);
+            return;
+        }
+        int mid = (start + end) >>> 1;
+        mergeSort(dst, src, start, mid);
+        mergeSort(dst, src, mid, end);
+        if (src[mid - 1] <= src[mid]) {
+            System.arraycopy(src, start, dst, start, end - start);
+            return;
+        }
+        int i = start;
+        int j = mid;
+        int index = start;
+        while (i < mid && j < end) {
+            if (src[i] <= src[j]) {
+                dst[index++] = src[i++];
+            } else {
+                dst[index++] = src[j++];
+            }
+        }
+        System.arraycopy(src, i, dst, index, mid - i);
+        System.arraycopy(src, j, dst, index + mid - i, end - j);
+    }
+
+    /**
+     * private helper method to perform quick sort on long data in natural
+     * order
+     * @param arr array being sorted
+     * @param start index of the first data to sort
+     * @param end index after the last data to sort
+     * @param rand Random object used to select pivots
+     */
+    private static void quickSort(long[] arr, int start, int end, Random rand) {
+        while (end - start >= INSERTION_SORT_CUTOFF) {
+            long pivotValue = arr[start + rand.nextInt(end - start)];
+            // [start, lt) < pivot, [lt, i) == pivot, (gt, end) > pivot
+            int lt = start;
+            int i = start;
+            int gt = end - 1;
+            while (i <= gt) {
+                if (arr[i] < pivotValue) {
+                    long temp = arr[lt];
+                    arr[lt++] = arr[i];
+                    arr[i++] = temp;
+                } else if (arr[i] > pivotValue) {
+                    long temp = arr[gt];
+                    arr[gt--] = arr[i];
+                    arr[i] = temp;
+                } else {
+                    i++;
+                }
+            }
+            if (lt - start < end - gt - 1) {
+                quickSort(arr, start, lt, rand);
+                start = gt + 1;
+            } else {
+                quickSort(arr, gt + 1, end, rand);
+                end = lt;
+            }
+        }
+        insertionSort(arr, start, end);
+    }
+
+    /**
+     * insertion sort of primitive double data in natural order, the order of
+     * Double.compare, so -0.0 comes before 0.0 and NaN comes last.
+     * @param arr the array that must be sorted after the method runs
+     * @throws java.lang.IllegalArgumentException if the array is null
+     */
+    public static void insertionSort(double[] arr) {
+        if (arr == null) {
+            throw new java.lang.IllegalArgumentException("cannot sort null array");
+        }
+        insertionSort(arr, 0, arr.length);
+    }
+
+    /**
+     * insertion sort of primitive double data.
+     * @param arr        the array that must be sorted after the method runs
+     * @param comparator the DoubleComparator used to compare the data in arr
+     * @throws java.lang.IllegalArgumentException if the array or comparator is
+     *                                            null
+     */
+    public static void insertionSort(double[] arr, DoubleComparator comparator) {
+        if (arr == null || comparator == null) {
+            throw new java.lang.IllegalArgumentException("input array or comparator cannot be null");
+        }
+        insertionSort(arr, 0, arr.length, comparator);
+    }
+
+    /**
+     * private helper method that insertion sorts part of a double array
+     * @param arr array being sorted
+     * @param start index of the first data to sort
+     * @param end index after the last data to sort
+     * @param comparator DoubleComparator used to compare data in the array
+     */
+    private static void insertionSort(double[] arr, int start, int end, DoubleComparator comparator) {
+        for (int i = start + 1; i < end; i++) {
+            int j = i - 1;
+            double temp = arr[i];
+            while (j >= start && comparator.compare(arr[j], temp) > 0) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = temp;
+        }
+    }
+
+    /**
+     * merge sort of primitive double data in natural order, the order of
+     * Double.compare, so -0.0 comes before 0.0 and NaN comes last.
+     * @param arr the array to be sorted
+     * @throws java.lang.IllegalArgumentException if the array is null
+     */
+    public static void mergeSort(double[] arr) {
+        if (arr == null) {
+            throw new java.lang.IllegalArgumentException("cannot sort null array");
+        }
+        if (arr.length < 2) {
+            return;
+        }
+        mergeSort(arr.clone(), arr, 0, arr.length);
+    }
+
+    /**
+     * merge sort of primitive double data.
+     *
+     * Works like the object mergeSort, with one scratch copy of the array.
+     * The sort is stable.
+     * @param arr        the array to be sorted
+     * @param comparator the DoubleComparator used to compare the data in arr
+     * @throws java.lang.IllegalArgumentException if the array or comparator is
+     *                                            null
+     */
+    public static void mergeSort(double[] arr, DoubleComparator comparator) {
+        if (arr == null || comparator == null) {
+            throw new java.lang.IllegalArgumentException("input array or comparator cannot be null");
+        }
+        if (arr.length < 2) {
+            return;
+        }
+        mergeSort(arr.clone(), arr, 0, arr.length, comparator);
+    }
+
+    /**
+     * private recursive helper method to perform merge sort on double data
+     * @param src array holding the same data as dst in the range, used as
+     *            scratch space
+     * @param dst array the sorted range is written to
+     * @param start index of the first data to sort
+     * @param end index after the last data to sort
+     * @param comparator DoubleComparator used to compare data in the array
+     */
+    private static void mergeSort(double[] src, double[] dst, int start, int end, DoubleComparator comparator) {
+        if (end - start < INSERTION_SORT_CUTOFF) {
+            insertionSort(dst, start, end, comparator);
+            return;
+        }
+        int mid = (start + end) >>> 1;
+        mergeSort(dst, src, start, mid, comparator);
+        mergeSort(dst, src, mid, end, comparator);
+        if (comparator.compare(src[mid - 1], src[mid]) <= 0) {
+            System.arraycopy(src, start, dst, start, end - start);
+            return;
+        }
+        int i = start;
+        int j = mid;
+        int index = start;
+        while (i < mid && j < end) {
+            if (comparator.compare(src[i], src[j]) <= 0) {
+                dst[index++] = src[i++];
+            } else {
+                dst[index++] = src[j++];
+            }
+        }
+        System.arraycopy(src, i, dst, index, mid - i);
+        System.arraycopy(src, j, dst, index + mid - i, end - j);
+    }
+
+    /**
+     * quick sort of primitive double data in natural order, the order of
+     * Double.compare, so -0.0 comes before 0.0 and NaN comes last.
+     * @param arr  the array that must be sorted after the method runs
+     * @param rand the Random object used to select pivots
+     * @throws java.lang.IllegalArgumentException if the array or rand is null
+     */
+    public static void quickSort(double[] arr, Random rand) {
+        if (arr == null || rand == null) {
+            throw new java.lang.IllegalArgumentException("input array or rand cannot be null");
+        }
+        quickSort(arr, 0, arr.length, rand);
+    }
+
+    /**
+     * quick sort of primitive double data.
+     *
+     * Partitions three ways around a random pivot and only recurses on the
+     * smaller side, so duplicates are handled in one pass and the stack stays
+     * O(log n).
+     * @param arr        the array that must be sorted after the method runs
+     * @param comparator the DoubleComparator used to compare the data in arr
+     * @param rand       the Random object used to select pivots
+     * @throws java.lang.IllegalArgumentException if the array or comparator or
+     *                                            rand is null
+     */
+    public static void quickSort(double[] arr, DoubleComparator comparator, Random rand) {
+        if (arr == null || comparator == null || rand == null) {
+            throw new java.lang.IllegalArgumentException("input array, comparator, or rand cannot be null");
+        }
+        quickSort(arr, 0, arr.length, comparator, rand);
+    }
+
+    /**
+     * private helper method to perform quick sort on double data
+     * @param arr array being sorted
+     * @param start index of the first data to sort
+     * @param end index after the last data to sort
+     * @param comparator DoubleComparator used to compare data in the array
+     * @param rand Random object used to select pivots
+     */
+    private static void quickSort(double[] arr, int start, int end, DoubleComparator comparator, Random rand) {
+        while (end - start >= INSERTION_SORT_CUTOFF) {
+            double pivotValue = arr[start + rand.nextInt(end - start)];
+            // [start, lt) < pivot, [lt, i) == pivot, (gt, end) > pivot
+            int lt = start;
+            int i = start;
+            int gt = end - 1;
+            while (i <= gt) {
+                int comparison = comparator.compare(arr[i], pivotValue);
+                if (comparison < 0) {
+                    double temp = arr[lt];
+                    arr[lt++] = arr[i];
+                    arr[i++] = temp;
+                } else if (comparison > 0) {
+                    double temp = arr[gt];
+                    arr[gt--] = arr[i];
+                    arr[i] = temp;
+                } else {
+                    i++;
+                }
+            }
+            if (lt - start < end - gt - 1) {
+                quickSort(arr, start, lt, comparator, rand);
+                start = gt + 1;
+            } else {
+                quickSort(arr, gt + 1, end, comparator, rand);
+                end = lt;
+            }
+        }
+        insertionSort(arr, start, end, comparator);
+    }
+
+    /**
+     * private helper method that insertion sorts part of a double array in
+     * natural order
+     * @param arr array being sorted
+     * @param start index of the first data to sort
+     * @param end index after the last data to sort
+     */
+    private static void insertionSort(double[] arr, int start, int end) {
+        for (int i = start + 1; i < end; i++) {
+            int j = i - 1;
+            double temp = arr[i];
+            while (j >= start && Double.compare(arr[j], temp) > 0) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = temp;
+        }
+    }
+
+    /**
+     * private recursive helper method to perform merge sort on double data in
+     * natural order
+     * @param src array holding the same data as dst in the range, used as
+     *            scratch space
+     * @param dst array the sorted range is written to
+     * @param start index of the first data to sort
+     * @param end index after the last data to sort
+     */
+    private static void mergeSort(double[] src, double[] dst, int start, int end) {
+        if (end - start < INSERTION_SORT_CUTOFF) {
+            insertionSort(dst, start, end);
+            return;
+        }
+        int mid = (start + end) >>> 1;
+        mergeSort(dst, src, start, mid);
+        mergeSort(dst, src, mid, end);
+        if (Double.compare(src[mid - 1], src[mid]) <= 0) {
+            System.arraycopy(src, start, dst, start, end - start);
+            return;
+        }
+        int i = start;
+        int j = mid;
+        int index = start;
+        while (i < mid && j < end) {
+            if (Double.compare(src[i], src[j]) <= 0) {
+                dst[index++] = src[i++];
+            } else {
+                dst[index++] = src[j++];
+            }
+        }
+        System.arraycopy(src, i, dst, index, mid - i);
+        System.arraycopy(src, j, dst, index + mid - i, end - j);
+    }
+
+    /**
+     * private helper method to perform quick sort on double data in natural
+     * order
+     * @param arr array being sorted
+     * @param start index of the first data to sort
+     * @param end index after the last data to sort
+     * @param rand Random object used to select pivots
+     */
+    private static void quickSort(double[] arr, int start, int end, Random rand) {
+        while (end - start >= INSERTION_SORT_CUTOFF) {
+            double pivotValue = arr[start + rand.nextInt(end - start)];
+            // [start, lt) < pivot, [lt, i) == pivot, (gt, end) > pivot
+            int lt = start;
+            int i = start;
+            int gt = end - 1;
+            while (i <= gt) {
+                int comparison = Double.compare(arr[i], pivotValue);
+                if (comparison < 0) {
+                    double temp = arr[lt];
+                    arr[lt++] = arr[i];
+                    arr[i++] = temp;
+                } else if (comparison > 0) {
+                    double temp = arr[gt];
+                    arr[gt--] = arr[i];
+                    arr[i] = temp;
+                } else {
+                    i++;
+                }
+            }
+            if (lt - start < end - gt - 1) {
+                quickSort(arr, start, lt, rand);
+                start = gt + 1;
+            } else {
+                quickSort(arr, gt + 1, end, rand);
+                end = lt;
+            }
+        }
+        insertionSort(arr, start, end);
+    }
+
+    /**
+     * LSD (least significant digit) radix sort.
+     *
+     * Counting sort on 8-bit digits, four passes at most, moving data back
+     * and forth between arr and one buffer. The sign bit is flipped when
+     * digits are read so negative numbers, including Integer.MIN_VALUE, sort
+     * first. The histograms for every digit are built in one pass up front,
+     * and passes whose digit is the same for all data are skipped.
+     * @param arr the array to be sorted
+     * @throws java.lang.IllegalArgumentException if the array is null
+     */
+    public static void lsdRadixSort(int[] arr) {
+        if (arr == null) {
+            throw new java.lang.IllegalArgumentException("cannot sort null array");
+        }
+        int n = arr.length;
+        if (n < 2) {
+            return;
+        }
+        int[][] counts = new int[4][257];
+        for (int num : arr) {
+            int key = num ^ Integer.MIN_VALUE;
+            for (int pass = 0; pass < 4; pass++) {
+                counts[pass][((key >>> (8 * pass)) & 0xFF) + 1]++;
+            }
+        }
+        int[] src = arr;
+        int[] dst = new int[n];
+        for (int pass = 0; pass < 4; pass++) {
+            int shift = 8 * pass;
+            int[] count = counts[pass];
+            if (count[(((arr[0] ^ Integer.MIN_VALUE) >>> shift) & 0xFF) + 1] == n) {
+                continue;
+            }
+            for (int i = 0; i < 256; i++) {
+                count[i + 1] += count[i];
+            }
+            for (int num : src) {
+                dst[count[((num ^ Integer.MIN_VALUE) >>> shift) & 0xFF]++] = num;
+            }
+            int[] temp = src;
+            src = dst;
+            dst = temp;
+        }
+        if (src != arr) {
+            System.arraycopy(src, 0, arr, 0, n);
+        }
+    }
+
+    /**
+     * LSD (least significant digit) radix sort.
+     *
+     * Counting sort on 11-bit digits, six passes at most, with the same sign
+     * flip, ping-pong buffer and constant digit skipping as the int version.
+     * @param arr the array to be sorted
+     * @throws java.lang.IllegalArgumentException if the array is null
+     */
+    public static void lsdRadixSort(long[] arr) {
+        if (arr == null) {
+            throw new java.lang.IllegalArgumentException("cannot sort null array");
+        }
+        int n = arr.length;
+        if (n < 2) {
+            return;
+        }
+        int[][] counts = new int[6][2049];
+        for (long num : arr) {
+            long key = num ^ Long.MIN_VALUE;
+            for (int pass = 0; pass < 6; pass++) {
+                counts[pass][(int) ((key >>> (11 * pass)) & 0x7FF) + 1]++;
+            }
+        }
+        long[] src = arr;
+        long[] dst = new long[n];
+        for (int pass = 0; pass < 6; pass++) {
+            int shift = 11 * pass;
+            int[] count = counts[pass];
+            if (count[(int) (((arr[0] ^ Long.MIN_VALUE) >>> shift) & 0x7FF) + 1] == n) {
+                continue;
+            }
+            for (int i = 0; i < 2048; i++) {
+                count[i + 1] += count[i];
+            }
+            for (long num : src) {
+                dst[count[(int) (((num ^ Long.MIN_VALUE) >>> shift) & 0x7FF)]++] = num;
+            }
+            long[] temp = src;
+            src = dst;
+            dst = temp;
+        }
+        if (src != arr) {
+            System.arraycopy(src, 0, arr, 0, n);
+        }
+    }
+
+    /**
+     * LSD (least significant digit) radix sort.
+     *
+     * Maps each float to an int whose signed order matches the float order,
+     * radix sorts the ints, and maps them back. The order matches
+     * Arrays.sort: -0.0f comes before 0.0f and NaN comes last.
+     * @param arr the array to be sorted
+     * @throws java.lang.IllegalArgumentException if the array is null
+     */
+    public static void lsdRadixSort(float[] arr) {
+        if (arr == null) {
+            throw new java.lang.IllegalArgumentException("cannot sort null array");
+        }
+        int[] keys = new int[arr.length];
+        for (int i = 0; i < arr.length; i++) {
+            int bits = Float.floatToIntBits(arr[i]);
+            // negative floats order backwards, so flip all but their sign bit
+            keys[i] = bits ^ ((bits >> 31) & Integer.MAX_VALUE);
+        }
+        lsdRadixSort(keys);
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = Float.intBitsToFloat(keys[i] ^ ((keys[i] >> 31) & Integer.MAX_VALUE));
+        }
+    }
+
+    /**
+     * LSD (least significant digit) radix sort.
+     *
+     * Maps each double to a long whose signed order matches the double
+     * order, radix sorts the longs, and maps them back. The order matches
+     * Arrays.sort: -0.0 comes before 0.0 and NaN comes last.
+     * @param arr the array to be sorted
+     * @throws java.lang.IllegalArgumentException if the array is null
+     */
+    public static void lsdRadixSort(double[] arr) {
+        if (arr == null) {
+            throw new java.lang.IllegalArgumentException("cannot sort null array");
+        }
+        long[] keys = new long[arr.length];
+        for (int i = 0; i < arr.length; i++) {
+            long bits = Double.doubleToLongBits(arr[i]);
+            // negative doubles order backwards, so flip all but their sign bit
+            keys[i] = bits ^ ((bits >> 63) & Long.MAX_VALUE);
+        }
+        lsdRadixSort(keys);
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = Double.longBitsToDouble(keys[i] ^ ((keys[i] >> 63) & Long.MAX_VALUE));
+        }
+    }
+
+    /**
+     * MSD (most significant digit) radix sort by an int key.
+     *
+     * Extracts every key once and radix sorts on 8-bit digits from the most
+     * significant down, so the comparator is never called. Buckets of at
+     * least PARALLEL_THRESHOLD data are sorted concurrently on the pool, and
+     * buckets shorter than INSERTION_SORT_CUTOFF are insertion sorted by key.
+     * The sort is stable.
+     * @param <T>  data type to sort
+     * @param arr  the array to be sorted
+     * @param key  the function that extracts the key to sort by
+     * @param pool the ForkJoinPool to sort on
+     * @throws java.lang.IllegalArgumentException if the array, key, or pool is
+     *                                            null
+     */
+    public static <T> void msdRadixSortByInt(T[] arr, ToIntFunction<? super T> key, ForkJoinPool pool) {
+        if (arr == null || key == null || pool == null) {
+            throw new java.lang.IllegalArgumentException("input array, key, or pool cannot be null");
+        }
+        long[] keys = new long[arr.length];
+        for (int i = 0; i < arr.length; i++) {
+            // flip the sign bit so the unsigned order of the keys is their signed order
+            keys[i] = (key.applyAsInt(arr[i]) ^ Integer.MIN_VALUE) & 0xFFFFFFFFL;
+        }
+        msdRadixSort(arr, keys, 24, pool);
+    }
+
+    /**
+     * MSD (most significant digit) radix sort by a long key.
+     *
+     * Works like msdRadixSortByInt, with up to eight digits per key.
+     * @param <T>  data type to sort
+     * @param arr  the array to be sorted
+     * @param key  the function that extracts the key to sort by
+     * @param pool the ForkJoinPool to sort on
+     * @throws java.lang.IllegalArgumentException if the array, key, or pool is
+     *                                            null
+     */
+    public static <T> void msdRadixSortByLong(T[] arr, ToLongFunction<? super T> key, ForkJoinPool pool) {
+        if (arr == null || key == null || pool == null) {
+            throw new java.lang.IllegalArgumentException("input array, key, or pool cannot be null");
+        }
+        long[] keys = new long[arr.length];
+        for (int i = 0; i < arr.length; i++) {
+            keys[i] = key.applyAsLong(arr[i]) ^ Long.MIN_VALUE;
+        }
+        msdRadixSort(arr, keys, 56, pool);
+    }
+
+    /**
+     * private helper method that sets up an MSD radix sort by unsigned keys
+     * @param arr array being sorted
+     * @param keys the key of each data, compared as unsigned
+     * @param topShift shift of the most significant digit of the keys
+     * @param pool ForkJoinPool to sort on
+     * @param <T> data type to sort
+     */
+    private static <T> void msdRadixSort(T[] arr, long[] keys, int topShift, ForkJoinPool pool) {
+        if (arr.length < 2) {
+            return;
+        }
+        T[] buffer = arr.clone();
+        long[] keyBuffer = new long[arr.length];
+        pool.invoke(ForkJoinTask.adapt(() -> msdRadixSort(arr, keys, buffer, keyBuffer, 0, arr.length, topShift)));
+    }
+
+    /**
+     * private recursive helper method to perform MSD radix sort by unsigned
+     * keys
+     * @param arr array being sorted
+     * @param keys the key of each data in arr
+     * @param buffer scratch space for data
+     * @param keyBuffer scratch space for keys
+     * @param start index of the first data to sort
+     * @param end index after the last data to sort
+     * @param shift shift of the digit to sort by
+     * @param <T> data type to sort
+     */
+    private static <T> void msdRadixSort(T[] arr, long[] keys, T[] buffer, long[] keyBuffer, int start, int end,
+                                         int shift) {
+        if (end - start < INSERTION_SORT_CUTOFF) {
+            for (int i = start + 1; i < end; i++) {
+                long tempKey = keys[i];
+                T temp = arr[i];
+                int j = i - 1;
+                while (j >= start && Long.compareUnsigned(keys[j], tempKey) > 0) {
+                    keys[j + 1] = keys[j];
+                    arr[j + 1] = arr[j];
+                    j--;
+                }
+                keys[j + 1] = tempKey;
+                arr[j + 1] = temp;
+            }
+            return;
+        }
+        int[] count = new int[257];
+        for (int i = start; i < end; i++) {
+            count[(int) ((keys[i] >>> shift) & 0xFF) + 1]++;
+        }
+        for (int i = 0; i < 256; i++) {
+            count[i + 1] += count[i];
+        }
+        int[] next = count.clone();
+        for (int i = start; i < end; i++) {
+            int index = start + next[(int) ((keys[i] >>> shift) & 0xFF)]++;
+            keyBuffer[index] = keys[i];
+            buffer[index] = arr[i];
+        }
+        System.arraycopy(keyBuffer, start, keys, start, end - start);
+        System.arraycopy(buffer, start, arr, start, end - start);
+        if (shift == 0) {
+            return;
+        }
+        List<ForkJoinTask<?>> tasks = new ArrayList<>();
+        for (int digit = 0; digit < 256; digit++) {
+            int bucketStart = start + count[digit];
+            int bucketEnd = start + count[digit + 1];
+            if (bucketEnd - bucketStart < 2) {
+                continue;
+            }
+            if (bucketEnd - bucketStart >= PARALLEL_THRESHOLD && ForkJoinTask.inForkJoinPool()) {
+                tasks.add(ForkJoinTask.adapt(() -> msdRadixSort(arr, keys, buffer, keyBuffer, bucketStart,
+                        bucketEnd, shift - 8)).fork());
+            } else {
+                msdRadixSort(arr, keys, buffer, keyBuffer, bucketStart, bucketEnd, shift - 8);
+            }
+        }
+        for (ForkJoinTask<?> task : tasks) {
+            task.join();
+        }
+    }
+
+    /**
+     * MSD (most significant digit) radix sort by a string key.
+     *
+     * Extracts every key once and sorts lexicographically by char value,
+     * like String.compareTo, reading each char as two 8-bit digits. Data
+     * whose keys run out are placed before longer keys and are not looked at
+     * again. Buckets of at least PARALLEL_THRESHOLD data are sorted
+     * concurrently on the pool, and buckets shorter than
+     * INSERTION_SORT_CUTOFF are insertion sorted by key. The sort is stable.
+     * @param <T>  data type to sort
+     * @param arr  the array to be sorted
+     * @param key  the function that extracts the key to sort by
+     * @param pool the ForkJoinPool to sort on
+     * @throws java.lang.IllegalArgumentException if the array, key, or pool is
+     *                                            null, or if any key is null
+     */
+    public static <T> void msdRadixSortByString(T[] arr, Function<? super T, ? extends CharSequence> key,
+                                                ForkJoinPool pool) {
+        if (arr == null || key == null || pool == null) {
+            throw new java.lang.IllegalArgumentException("input array, key, or pool cannot be null");
+        }
+        CharSequence[] keys = new CharSequence[arr.length];
+        for (int i = 0; i < arr.length; i++) {
+            keys[i] = key.apply(arr[i]);
+            if (keys[i] == null) {
+                throw new java.lang.IllegalArgumentException("key cannot be null");
+            }
+        }
+        if (arr.length < 2) {
+            return;
+        }
+        T[] buffer = arr.clone();
+        CharSequence[] keyBuffer = new CharSequence[arr.length];
+        pool.invoke(ForkJoinTask.adapt(() -> msdRadixSort(arr, keys, buffer, keyBuffer, 0, arr.length, 0, 0)));
+    }
+
+    /**
+     * private recursive helper method to perform MSD radix sort by string
+     * keys. Digits shared by every key in the range are skipped in a loop,
+     * and past STRING_RADIX_DEPTH_LIMIT nested splits the range is finished
+     * with a comparison sort, so long shared prefixes cannot overflow the
+     * stack.
+     * @param arr array being sorted
+     * @param keys the key of each data in arr
+     * @param buffer scratch space for data
+     * @param keyBuffer scratch space for keys
+     * @param start index of the first data to sort
+     * @param end index after the last data to sort
+     * @param digit index of the 8-bit digit to sort by, two per char
+     * @param depth number of splits above this range
+     * @param <T> data type to sort
+     */
+    private static <T> void msdRadixSort(T[] arr, CharSequence[] keys, T[] buffer, CharSequence[] keyBuffer,
+                                         int start, int end, int digit, int depth) {
+        if (end - start < INSERTION_SORT_CUTOFF) {
+            for (int i = start + 1; i < end; i++) {
+                CharSequence tempKey = keys[i];
+                T temp = arr[i];
+                int j = i - 1;
+                while (j >= start && compareFrom(keys[j], tempKey, digit / 2) > 0) {
+                    keys[j + 1] = keys[j];
+                    arr[j + 1] = arr[j];
+                    j--;
+                }
+                keys[j + 1] = tempKey;
+                arr[j + 1] = temp;
+            }
+            return;
+        }
+        if (depth >= STRING_RADIX_DEPTH_LIMIT) {
+            comparisonSort(arr, keys, buffer, keyBuffer, start, end, digit / 2);
+            return;
+        }
+        // bucket 0 holds keys that have run out, bucket b + 1 holds digit b
+        int[] count = new int[258];
+        while (true) {
+            for (int i = start; i < end; i++) {
+                count[digitAt(keys[i], digit) + 1]++;
+            }
+            int shared = digitAt(keys[start], digit);
+            if (count[shared + 1] != end - start) {
+                break;
+            }
+            if (shared == 0) {
+                // every key has run out, so they are all equal
+                return;
+            }
+            count[shared + 1] = 0;
+            digit++;
+        }
+        for (int i = 0; i < 257; i++) {
+            count[i + 1] += count[i];
+        }
+        int[] next = count.clone();
+        for (int i = start; i < end; i++) {
+            int index = start + next[digitAt(keys[i], digit)]++;
+            keyBuffer[index] = keys[i];
+            buffer[index] = arr[i];
+        }
+        System.arraycopy(keyBuffer, start, keys, start, end - start);
+        System.arraycopy(buffer, start, arr, start, end - start);
+        int nextDigit = digit + 1;
+        List<ForkJoinTask<?>> tasks = new ArrayList<>();
+        for (int bucket = 1; bucket < 257; bucket++) {
+            int bucketStart = start + count[bucket];
+            int bucketEnd = start + count[bucket + 1];
+            if (bucketEnd - bucketStart < 2) {
+                continue;
+            }
+            if (bucketEnd - bucketStart >= PARALLEL_THRESHOLD && ForkJoinTask.inForkJoinPool()) {
+                tasks.add(ForkJoinTask.adapt(() -> msdRadixSort(arr, keys, buffer, keyBuffer, bucketStart,
+                        bucketEnd, nextDigit, depth + 1)).fork());
+            } else {
+                msdRadixSort(arr, keys, buffer, keyBuffer, bucketStart, bucketEnd, nextDigit, depth + 1);
+            }
+        }
+        for (ForkJoinTask<?> task : tasks) {
+            task.join();
+        }
+    }
+
+    /**
+     * private helper method that stably sorts part of an array by string key
+     * with merge sort, comparing keys from a char known to be where they may
+     * first differ
+     * @param arr array being sorted
+     * @param keys the key of each data in arr
+     * @param buffer scratch space for data
+     * @param keyBuffer scratch space for keys
+     * @param start index of the first data to sort
+     * @param end index after the last data to sort
+     * @param from index of the first char that may differ
+     * @param <T> data type to sort
+     */
+    private static <T> void comparisonSort(T[] arr, CharSequence[] keys, T[] buffer, CharSequence[] keyBuffer,
+                                           int start, int end, int from) {
+        Integer[] order = new Integer[end - start];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = start + i;
+        }
+        mergeSort(order, (a, b) -> compareFrom(keys[a], keys[b], from));
+        for (int i = 0; i < order.length; i++) {
+            buffer[start + i] = arr[order[i]];
+            keyBuffer[start + i] = keys[order[i]];
+        }
+        System.arraycopy(keyBuffer, start, keys, start, end - start);
+        System.arraycopy(buffer, start, arr, start, end - start);
+    }
+
+    /**
+     * private helper method that reads an 8-bit digit of a string key
+     * @param key the key to read from
+     * @param digit index of the digit, where digit 2i is the high byte of
+     *              char i and digit 2i + 1 is its low byte
+     * @return the digit plus one, or 0 if the key has run out
+     */
+    private static int digitAt(CharSequence key, int digit) {
+        if (digit / 2 >= key.length()) {
+            return 0;
+        }
+        char c = key.charAt(digit / 2);
+        return ((digit % 2 == 0) ? c >>> 8 : c & 0xFF) + 1;
+    }
+
+    /**
+     * private helper method that compares two string keys by char value,
+     * skipping a prefix known to be equal
+     * @param a the first key
+     * @param b the second key
+     * @param from index of the first char that may differ
+     * @return negative, zero or positive as a is less than, equal to or
+     * greater than b
+     */
+    private static int compareFrom(CharSequence a, CharSequence b, int from) {
+        int length = Math.min(a.length(), b.length());
+        for (int i = from; i < length; i++) {
+            if (a.charAt(i) != b.charAt(i)) {
+                return a.charAt(i) - b.charAt(i);
+            }
+        }
+        return a.length() - b.length();
+    }
+
+    /**
+     * quick sort.
+     * @param <T>        data type to sort
+     * @param arr        the array that must be sorted after the method runs
+     * @param comparator the Comparator used to compare the data in arr
+     * @param rand       the Random object used to select pivots
+     * @throws java.lang.IllegalArgumentException if the array or comparator or
+     *                                            rand is null
+     */
+    public static <T> void quickSort(T[] arr, Comparator<T> comparator,
+                                     Random rand) {
+        if (arr == null || comparator == null || rand == null) {
+            throw new java.lang.IllegalArgumentException("input array, comparator, or rand cannot be null");
+        }
+        quickSort(arr, 0, arr.length - 1, comparator, rand);
+    }
+
+    /**
+     * private recursive helper method to perform quick sort
+     * @param arr array being sorted
+     * @param start starting index of iteration
+     * @param end ending index of iteration
+     * @param comparator Comparator used to compare data in the array
+     * @param rand Random object used to select pivots
+     * @param <T> data type to sort
+     */
+    private static <T> void quickSort(T[] arr, int start, int end, Comparator<T> comparator, Random rand) {
+        if ((end - start) < 1) {
+            return;
+        }
+        int pivotIndex = rand.nextInt(end - start + 1) + start;
+        T pivotValue = arr[pivotIndex];
+        arr[pivotIndex] = arr[start];
+        arr[start] = pivotValue;
         int i = start + 1;
         int j = end;
         while (i <= j) {
@@ -218,4 +2032,175 @@ public class Sorting {
         quickSort(arr, start, j - 1, comparator, rand);
         quickSort(arr, j + 1, end, comparator, rand);
     }
+
+    /**
+     * introsort, the introspective mode of quick sort.
+     *
+     * Picks pivots deterministically with median-of-three, or Tukey's ninther
+     * on subarrays of at least NINTHER_THRESHOLD data, and partitions three
+     * ways so data equal to the pivot are never looked at again. Only the
+     * smaller side is recursed on, so the stack stays O(log n). If the
+     * partitions keep coming out lopsided, the subarray is heap sorted
+     * instead, bounding the worst case at O(n log n). Subarrays shorter than
+     * INSERTION_SORT_CUTOFF are insertion sorted.
+     * @param <T>        data type to sort
+     * @param arr        the array that must be sorted after the method runs
+     * @param comparator the Comparator used to compare the data in arr
+     * @throws java.lang.IllegalArgumentException if the array or comparator is
+     *                                            null
+     */
+    public static <T> void introSort(T[] arr, Comparator<T> comparator) {
+        if (arr == null || comparator == null) {
+            throw new java.lang.IllegalArgumentException("input array or comparator cannot be null");
+        }
+        int depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(Math.max(arr.length, 1)));
+        introSort(arr, 0, arr.length, depthLimit, comparator);
+    }
+
+    /**
+     * private helper method to perform introsort
+     * @param arr array being sorted
+     * @param start index of the first data to sort
+     * @param end index after the last data to sort
+     * @param depthLimit number of partitions left before switching to heap sort
+     * @param comparator Comparator used to compare data in the array
+     * @param <T> data type to sort
+     */
+    private static <T> void introSort(T[] arr, int start, int end, int depthLimit, Comparator<T> comparator) {
+        while (end - start >= INSERTION_SORT_CUTOFF) {
+            if (depthLimit == 0) {
+                heapSort(arr, start, end, comparator);
+                return;
+            }
+            depthLimit--;
+            T pivotValue = arr[pivot(arr, start, end, comparator)];
+            // [start, lt) < pivot, [lt, i) == pivot, (gt, end) > pivot
+            int lt = start;
+            int i = start;
+            int gt = end - 1;
+            while (i <= gt) {
+                int comparison = comparator.compare(arr[i], pivotValue);
+                if (comparison < 0) {
+                    swap(arr, lt++, i++);
+                } else if (comparison > 0) {
+                    swap(arr, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+            // recurse on the smaller side and loop on the larger one
+            if (lt - start < end - gt - 1) {
+                introSort(arr, start, lt, depthLimit, comparator);
+                start = gt + 1;
+            } else {
+                introSort(arr, gt + 1, end, depthLimit, comparator);
+                end = lt;
+            }
+        }
+        insertionSort(arr, start, end, comparator);
+    }
+
+    /**
+     * private helper method that picks a pivot index for introsort
+     * @param arr array being sorted
+     * @param start index of the first data in the subarray
+     * @param end index after the last data in the subarray
+     * @param comparator Comparator used to compare data in the array
+     * @param <T> data type to sort
+     * @return index of the pivot
+     */
+    private static <T> int pivot(T[] arr, int start, int end, Comparator<T> comparator) {
+        int last = end - 1;
+        int mid = (start + last) >>> 1;
+        if (end - start < NINTHER_THRESHOLD) {
+            return medianOfThree(arr, start, mid, last, comparator);
+        }
+        int step = (end - start) / 8;
+        int first = medianOfThree(arr, start, start + step, start + 2 * step, comparator);
+        int middle = medianOfThree(arr, mid - step, mid, mid + step, comparator);
+        int third = medianOfThree(arr, last - 2 * step, last - step, last, comparator);
+        return medianOfThree(arr, first, middle, third, comparator);
+    }
+
+    /**
+     * private helper method that finds the median of three data
+     * @param arr array holding the data
+     * @param a index of the first data
+     * @param b index of the second data
+     * @param c index of the third data
+     * @param comparator Comparator used to compare data in the array
+     * @param <T> data type to sort
+     * @return index of the median data
+     */
+    private static <T> int medianOfThree(T[] arr, int a, int b, int c, Comparator<T> comparator) {
+        if (comparator.compare(arr[a], arr[b]) < 0) {
+            if (comparator.compare(arr[b], arr[c]) < 0) {
+                return b;
+            }
+            return (comparator.compare(arr[a], arr[c]) < 0) ? c : a;
+        }
+        if (comparator.compare(arr[a], arr[c]) < 0) {
+            return a;
+        }
+        return (comparator.compare(arr[b], arr[c]) < 0) ? c : b;
+    }
+
+    /**
+     * private helper method that heap sorts part of an array in place
+     * @param arr array being sorted
+     * @param start index of the first data to sort
+     * @param end index after the last data to sort
+     * @param comparator Comparator used to compare data in the array
+     * @param <T> data type to sort
+     */
+    private static <T> void heapSort(T[] arr, int start, int end, Comparator<T> comparator) {
+        int length = end - start;
+        for (int i = length / 2 - 1; i >= 0; i--) {
+            siftDown(arr, start, i, length, comparator);
+        }
+        for (int size = length - 1; size > 0; size--) {
+            swap(arr, start, start + size);
+            siftDown(arr, start, 0, size, comparator);
+        }
+    }
+
+    /**
+     * private helper method that moves data down a max heap stored in part of
+     * an array until both of its children are no larger
+     * @param arr array holding the heap
+     * @param offset index in arr of the heap's root
+     * @param n index of the data to move down, relative to offset
+     * @param size number of data in the heap
+     * @param comparator Comparator used to compare data in the array
+     * @param <T> data type to sort
+     */
+    private static <T> void siftDown(T[] arr, int offset, int n, int size, Comparator<T> comparator) {
+        T data = arr[offset + n];
+        // let n represent the index of the hole moving down the heap
+        while (2 * n + 1 < size) {
+            int child = 2 * n + 1;
+            if (child + 1 < size && comparator.compare(arr[offset + child + 1], arr[offset + child]) > 0) {
+                child++;
+            }
+            if (comparator.compare(data, arr[offset + child]) >= 0) {
+                break;
+            }
+            arr[offset + n] = arr[offset + child];
+            n = child;
+        }
+        arr[offset + n] = data;
+    }
+
+    /**
+     * private helper method that swaps two data in an array
+     * @param arr array holding the data
+     * @param i index of the first data
+     * @param j index of the second data
+     * @param <T> data type to sort
+     */
+    private static <T> void swap(T[] arr, int i, int j) {
+        T temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }
 }